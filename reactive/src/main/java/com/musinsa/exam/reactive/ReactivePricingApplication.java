@@ -0,0 +1,17 @@
+package com.musinsa.exam.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * 가격 조회 API 3종을 WebFlux + R2DBC로 제공하는 애플리케이션입니다.
+ * 기본 애플리케이션(Spring MVC + JPA)과 같은 스키마와 응답 DTO를 사용합니다.
+ */
+@SpringBootApplication
+public class ReactivePricingApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactivePricingApplication.class, args);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.musinsa.exam.reactive.controller;
+
+import com.musinsa.exam.exception.ResourceNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * MVC 애플리케이션의 GlobalExceptionHandler와 같은 형식으로 오류를 응답합니다.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<Object> handleResourceNotFoundException(
+            ResourceNotFoundException ex, ServerWebExchange exchange) {
+        return buildErrorResponse(ex, HttpStatus.NOT_FOUND, exchange);
+    }
+
+    private ResponseEntity<Object> buildErrorResponse(
+            Exception ex, HttpStatus status, ServerWebExchange exchange) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", ex.getMessage());
+        body.put("path", "uri=" + exchange.getRequest().getPath().value());
+
+        return new ResponseEntity<>(body, status);
+    }
+}
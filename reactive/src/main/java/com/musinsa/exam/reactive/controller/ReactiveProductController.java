@@ -0,0 +1,35 @@
+package com.musinsa.exam.reactive.controller;
+
+import com.musinsa.exam.dto.CategoryPriceRangeDto;
+import com.musinsa.exam.dto.LowestPriceBrandDto;
+import com.musinsa.exam.dto.LowestPriceBrandsDto;
+import com.musinsa.exam.reactive.service.ReactiveProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class ReactiveProductController {
+
+    private final ReactiveProductService productService;
+
+    @GetMapping("/lowest-price-brands")
+    public Mono<LowestPriceBrandsDto> getLowestPriceBrands() {
+        return productService.getLowestPriceBrands();
+    }
+
+    @GetMapping("/lowest-price-brand")
+    public Mono<LowestPriceBrandDto> getLowestPriceBrand() {
+        return productService.getLowestPriceBrand();
+    }
+
+    @GetMapping("/category-price-range")
+    public Mono<CategoryPriceRangeDto> getCategoryPriceRange(@RequestParam String category) {
+        return productService.getCategoryPriceRange(category);
+    }
+}
@@ -0,0 +1,109 @@
+package com.musinsa.exam.reactive.repository;
+
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * MVC 애플리케이션의 database 조회 방식과 같은 집계 쿼리를 R2DBC로 실행합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactivePriceRepository {
+
+    private static final String RANKED_PRODUCTS =
+            "SELECT p.category_id, b.name AS brand_name, p.price, " +
+            "ROW_NUMBER() OVER (PARTITION BY p.category_id ORDER BY p.price ASC, p.brand_id ASC) AS lowest_rank, " +
+            "ROW_NUMBER() OVER (PARTITION BY p.category_id ORDER BY p.price DESC, p.brand_id ASC) AS highest_rank " +
+            "FROM PRODUCT p JOIN BRAND b ON b.id = p.brand_id ";
+
+    private static final String CATEGORY_PRICE_RANGE_SELECT =
+            "SELECT c.name AS category_name, " +
+            "MAX(CASE WHEN r.lowest_rank = 1 THEN r.brand_name END) AS lowest_brand, " +
+            "MAX(CASE WHEN r.lowest_rank = 1 THEN r.price END) AS lowest_price, " +
+            "MAX(CASE WHEN r.highest_rank = 1 THEN r.brand_name END) AS highest_brand, " +
+            "MAX(CASE WHEN r.highest_rank = 1 THEN r.price END) AS highest_price " +
+            "FROM CATEGORY c ";
+
+    private final DatabaseClient databaseClient;
+
+    public record CategoryPriceRange(String category, String lowestBrand, Integer lowestPrice,
+                                     String highestBrand, Integer highestPrice) {
+    }
+
+    public record BrandTotal(long brandId, String brand, long totalPrice) {
+    }
+
+    public record CategoryPrice(String category, int price) {
+    }
+
+    /**
+     * 모든 카테고리의 최저/최고가 브랜드를 카테고리 순서대로 반환합니다. 상품이 없는 카테고리는 브랜드가 null입니다.
+     */
+    public Flux<CategoryPriceRange> findAllCategoryPriceRanges() {
+        return databaseClient.sql(CATEGORY_PRICE_RANGE_SELECT +
+                        "LEFT JOIN (" + RANKED_PRODUCTS + ") r " +
+                        "ON r.category_id = c.id AND (r.lowest_rank = 1 OR r.highest_rank = 1) " +
+                        "GROUP BY c.id, c.name ORDER BY c.id")
+                .map((row, metadata) -> toCategoryPriceRange(row))
+                .all();
+    }
+
+    public Mono<CategoryPriceRange> findCategoryPriceRange(String categoryName) {
+        return databaseClient.sql(CATEGORY_PRICE_RANGE_SELECT +
+                        "LEFT JOIN (" + RANKED_PRODUCTS + "WHERE p.category_id = (SELECT id FROM CATEGORY WHERE name = :categoryName)) r " +
+                        "ON r.category_id = c.id AND (r.lowest_rank = 1 OR r.highest_rank = 1) " +
+                        "WHERE c.name = :categoryName " +
+                        "GROUP BY c.id, c.name")
+                .bind("categoryName", categoryName)
+                .map((row, metadata) -> toCategoryPriceRange(row))
+                .one();
+    }
+
+    public Mono<Long> countBrands() {
+        return databaseClient.sql("SELECT COUNT(*) AS cnt FROM BRAND")
+                .map((row, metadata) -> row.get("cnt", Long.class))
+                .one();
+    }
+
+    /**
+     * 모든 카테고리에 상품이 있는 브랜드 중 가격 합계가 가장 낮은 브랜드를 반환합니다.
+     */
+    public Mono<BrandTotal> findCheapestBrandCoveringAllCategories() {
+        return databaseClient.sql("SELECT b.id AS brand_id, b.name AS brand_name, SUM(p.price) AS total_price " +
+                        "FROM PRODUCT p JOIN BRAND b ON b.id = p.brand_id " +
+                        "GROUP BY b.id, b.name " +
+                        "HAVING COUNT(DISTINCT p.category_id) = (SELECT COUNT(*) FROM CATEGORY) " +
+                        "ORDER BY total_price ASC, b.id ASC " +
+                        "LIMIT 1")
+                .map((row, metadata) -> new BrandTotal(
+                        row.get("brand_id", Long.class),
+                        row.get("brand_name", String.class),
+                        row.get("total_price", Long.class)))
+                .one();
+    }
+
+    public Flux<CategoryPrice> findCategoryPricesByBrandId(long brandId) {
+        return databaseClient.sql("SELECT c.name AS category_name, p.price " +
+                        "FROM PRODUCT p JOIN CATEGORY c ON c.id = p.category_id " +
+                        "WHERE p.brand_id = :brandId " +
+                        "ORDER BY c.id")
+                .bind("brandId", brandId)
+                .map((row, metadata) -> new CategoryPrice(
+                        row.get("category_name", String.class),
+                        row.get("price", Integer.class)))
+                .all();
+    }
+
+    private static CategoryPriceRange toCategoryPriceRange(Row row) {
+        return new CategoryPriceRange(
+                row.get("category_name", String.class),
+                row.get("lowest_brand", String.class),
+                row.get("lowest_price", Integer.class),
+                row.get("highest_brand", String.class),
+                row.get("highest_price", Integer.class));
+    }
+}
@@ -0,0 +1,12 @@
+package com.musinsa.exam.reactive.service;
+
+import com.musinsa.exam.dto.CategoryPriceRangeDto;
+import com.musinsa.exam.dto.LowestPriceBrandDto;
+import com.musinsa.exam.dto.LowestPriceBrandsDto;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveProductService {
+    Mono<LowestPriceBrandsDto> getLowestPriceBrands();
+    Mono<LowestPriceBrandDto> getLowestPriceBrand();
+    Mono<CategoryPriceRangeDto> getCategoryPriceRange(String categoryName);
+}
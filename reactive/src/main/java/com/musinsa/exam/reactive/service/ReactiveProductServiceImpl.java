@@ -0,0 +1,112 @@
+package com.musinsa.exam.reactive.service;
+
+import com.musinsa.exam.dto.CategoryPriceRangeDto;
+import com.musinsa.exam.dto.LowestPriceBrandDto;
+import com.musinsa.exam.dto.LowestPriceBrandsDto;
+import com.musinsa.exam.exception.ResourceNotFoundException;
+import com.musinsa.exam.reactive.repository.ReactivePriceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MVC 애플리케이션의 ProductServiceImpl과 같은 응답과 예외 메시지를 논블로킹으로 만듭니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveProductServiceImpl implements ReactiveProductService {
+
+    private final ReactivePriceRepository priceRepository;
+
+    @Override
+    public Mono<LowestPriceBrandsDto> getLowestPriceBrands() {
+        return priceRepository.findAllCategoryPriceRanges()
+                .collectList()
+                .map(ranges -> {
+                    if (ranges.isEmpty()) {
+                        throw new ResourceNotFoundException("카테고리를 찾을 수 없습니다");
+                    }
+
+                    List<LowestPriceBrandsDto.CategoryPrice> categoryPrices = new ArrayList<>();
+                    long totalPrice = 0;
+                    for (ReactivePriceRepository.CategoryPriceRange range : ranges) {
+                        if (range.lowestBrand() == null) {
+                            continue;
+                        }
+                        LowestPriceBrandsDto.CategoryPrice categoryPrice = new LowestPriceBrandsDto.CategoryPrice();
+                        categoryPrice.setCategory(range.category());
+                        categoryPrice.setBrand(range.lowestBrand());
+                        categoryPrice.setPrice(range.lowestPrice());
+                        categoryPrices.add(categoryPrice);
+                        totalPrice += range.lowestPrice();
+                    }
+                    if (categoryPrices.isEmpty()) {
+                        throw new ResourceNotFoundException("상품을 찾을 수 없습니다");
+                    }
+
+                    LowestPriceBrandsDto result = new LowestPriceBrandsDto();
+                    result.setCategoryPrices(categoryPrices);
+                    result.setTotalPrice(totalPrice);
+                    return result;
+                });
+    }
+
+    @Override
+    public Mono<LowestPriceBrandDto> getLowestPriceBrand() {
+        return priceRepository.countBrands()
+                .flatMap(brandCount -> {
+                    if (brandCount == 0) {
+                        return Mono.error(new ResourceNotFoundException("브랜드를 찾을 수 없습니다"));
+                    }
+                    return priceRepository.findCheapestBrandCoveringAllCategories();
+                })
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다")))
+                .flatMap(brand -> priceRepository.findCategoryPricesByBrandId(brand.brandId())
+                        .map(price -> {
+                            LowestPriceBrandDto.CategoryPrice categoryPrice = new LowestPriceBrandDto.CategoryPrice();
+                            categoryPrice.setCategory(price.category());
+                            categoryPrice.setPrice(price.price());
+                            return categoryPrice;
+                        })
+                        .collectList()
+                        .map(categoryPrices -> {
+                            LowestPriceBrandDto.LowestPrice lowestPrice = new LowestPriceBrandDto.LowestPrice();
+                            lowestPrice.setBrand(brand.brand());
+                            lowestPrice.setTotalPrice(brand.totalPrice());
+                            lowestPrice.setCategories(categoryPrices);
+
+                            LowestPriceBrandDto result = new LowestPriceBrandDto();
+                            result.setLowestPrice(lowestPrice);
+                            return result;
+                        }));
+    }
+
+    @Override
+    public Mono<CategoryPriceRangeDto> getCategoryPriceRange(String categoryName) {
+        return priceRepository.findCategoryPriceRange(categoryName)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다: " + categoryName)))
+                .map(range -> {
+                    if (range.lowestBrand() == null || range.highestBrand() == null) {
+                        throw new ResourceNotFoundException("해당 카테고리의 상품을 찾을 수 없습니다: " + categoryName);
+                    }
+
+                    CategoryPriceRangeDto result = new CategoryPriceRangeDto();
+                    result.setCategory(categoryName);
+
+                    CategoryPriceRangeDto.BrandPrice lowestPrice = new CategoryPriceRangeDto.BrandPrice();
+                    lowestPrice.setBrand(range.lowestBrand());
+                    lowestPrice.setPrice(range.lowestPrice());
+                    result.setLowestPrice(lowestPrice);
+
+                    CategoryPriceRangeDto.BrandPrice highestPrice = new CategoryPriceRangeDto.BrandPrice();
+                    highestPrice.setBrand(range.highestBrand());
+                    highestPrice.setPrice(range.highestPrice());
+                    result.setHighestPrice(highestPrice);
+
+                    return result;
+                });
+    }
+}
@@ -0,0 +1,31 @@
+-- MVC 애플리케이션의 Brand/Category/Product 엔티티에 맞춘 스키마입니다. 인덱스도 Product의 @Table(indexes = ...)를 따릅니다.
+-- 엔티티를 바꾸면 함께 고쳐야 하며, ReactiveSchemaConsistencyTest가 Hibernate가 생성한 스키마와 비교합니다.
+CREATE SEQUENCE IF NOT EXISTS BRAND_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS CATEGORY_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS PRODUCT_SEQ START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS BRAND (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE,
+    version BIGINT DEFAULT 0 NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS CATEGORY (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS PRODUCT (
+    id BIGINT PRIMARY KEY,
+    brand_id BIGINT NOT NULL REFERENCES BRAND (id),
+    category_id BIGINT NOT NULL REFERENCES CATEGORY (id),
+    price INTEGER NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL,
+    UNIQUE (brand_id, category_id)
+);
+
+-- 카테고리별 최저/최고가 조회 (WHERE category_id = ? ORDER BY price), brand_id까지 포함하여 테이블 접근 없이 처리
+CREATE INDEX IF NOT EXISTS idx_product_category_price_brand ON PRODUCT (category_id, price, brand_id);
+
+-- 브랜드별 상품 조회 및 가격 합계 집계 (WHERE brand_id = ? / GROUP BY brand_id)
+CREATE INDEX IF NOT EXISTS idx_product_brand_price ON PRODUCT (brand_id, price);
@@ -0,0 +1,110 @@
+package com.musinsa.exam.reactive;
+
+import com.musinsa.exam.exception.ResourceNotFoundException;
+import com.musinsa.exam.reactive.service.ReactiveProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MVC 애플리케이션의 ProductServiceIntegrationTest 조회 시나리오를 r2dbc-h2에서 같은 데이터로 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReactiveProductServiceIntegrationTest {
+
+    @Autowired
+    private ReactiveProductService productService;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        // 기존 데이터 모두 삭제 후 테스트 데이터 설정
+        Flux.concat(
+                execute("DELETE FROM PRODUCT"),
+                execute("DELETE FROM BRAND"),
+                execute("DELETE FROM CATEGORY"),
+                execute("INSERT INTO BRAND (id, name) VALUES (NEXT VALUE FOR BRAND_SEQ, 'A'), (NEXT VALUE FOR BRAND_SEQ, 'B')"),
+                execute("INSERT INTO CATEGORY (id, name) VALUES (NEXT VALUE FOR CATEGORY_SEQ, '상의'), (NEXT VALUE FOR CATEGORY_SEQ, '하의')"),
+                product("A", "상의", 10000),
+                product("A", "하의", 20000),
+                product("B", "상의", 15000),
+                product("B", "하의", 25000)
+        ).blockLast();
+    }
+
+    /**
+     * 최저가 브랜드 조회 기능 테스트
+     * 각 카테고리별 최저가 브랜드를 식별하고 총액을 정확히 계산하는지 검증합니다.
+     */
+    @Test
+    void getLowestPriceBrands() {
+        StepVerifier.create(productService.getLowestPriceBrands())
+                .assertNext(result -> {
+                    assertEquals(2, result.getCategoryPrices().size());
+                    assertEquals(30000, result.getTotalPrice());
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * 단일 브랜드 최저가 조회 기능 테스트
+     * 모든 카테고리 상품의 총액이 가장 낮은 브랜드와 총액을 검증합니다.
+     */
+    @Test
+    void getLowestPriceBrand() {
+        StepVerifier.create(productService.getLowestPriceBrand())
+                .assertNext(result -> {
+                    assertEquals("A", result.getLowestPrice().getBrand());
+                    assertEquals(30000, result.getLowestPrice().getTotalPrice());
+                    assertEquals(2, result.getLowestPrice().getCategories().size());
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * 카테고리별 가격 범위 조회 기능 테스트
+     * 특정 카테고리의 최저가와 최고가 브랜드 및 가격을 검증합니다.
+     */
+    @Test
+    void getCategoryPriceRange() {
+        StepVerifier.create(productService.getCategoryPriceRange("상의"))
+                .assertNext(result -> {
+                    assertEquals("상의", result.getCategory());
+                    assertEquals("A", result.getLowestPrice().getBrand());
+                    assertEquals(10000, result.getLowestPrice().getPrice());
+                    assertEquals("B", result.getHighestPrice().getBrand());
+                    assertEquals(15000, result.getHighestPrice().getPrice());
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * 존재하지 않는 카테고리 조회 시 MVC 애플리케이션과 같은 예외가 발생하는지 검증합니다.
+     */
+    @Test
+    void getCategoryPriceRange_NotFound() {
+        StepVerifier.create(productService.getCategoryPriceRange("없는카테고리"))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+    }
+
+    private Flux<Long> execute(String sql) {
+        return databaseClient.sql(sql).fetch().rowsUpdated().flux();
+    }
+
+    private Flux<Long> product(String brand, String category, int price) {
+        return execute("INSERT INTO PRODUCT (id, brand_id, category_id, price) VALUES (NEXT VALUE FOR PRODUCT_SEQ, " +
+                "(SELECT id FROM BRAND WHERE name = '" + brand + "'), " +
+                "(SELECT id FROM CATEGORY WHERE name = '" + category + "'), " + price + ")");
+    }
+}
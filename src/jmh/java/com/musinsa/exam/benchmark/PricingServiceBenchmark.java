@@ -0,0 +1,128 @@
+package com.musinsa.exam.benchmark;
+
+import com.musinsa.exam.MusinsaExamApplication;
+import com.musinsa.exam.dto.CategoryPriceRangeDto;
+import com.musinsa.exam.dto.LowestPriceBrandDto;
+import com.musinsa.exam.dto.LowestPriceBrandsDto;
+import com.musinsa.exam.event.CatalogChangedEvent;
+import com.musinsa.exam.service.ProductService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가격 조회 서비스 3종의 처리량과 지연 시간 분포를 카탈로그 크기(브랜드 x 카테고리)와 조회 방식별로 측정합니다.
+ * 응답 캐시는 끄고 매 호출마다 가격 인덱스 또는 집계 쿼리를 거치도록 합니다.
+ *
+ * 실행: ./gradlew jmh (처리량, SampleTime의 p99, -prof gc의 할당률이 build/results/jmh/results.json에 기록됨)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx6g"})
+public class PricingServiceBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    /**
+     * 브랜드 수 x 카테고리 수입니다. 모든 브랜드가 모든 카테고리에 상품 하나씩을 가집니다.
+     */
+    @Param({"9x8", "1000x8", "10000x20", "100000x50"})
+    public String catalog;
+
+    @Param({"index", "database"})
+    public String source;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private String categoryName;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] size = catalog.split("x");
+        int brandCount = Integer.parseInt(size[0]);
+        int categoryCount = Integer.parseInt(size[1]);
+
+        context = new SpringApplicationBuilder(MusinsaExamApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "spring.sql.init.mode=never",
+                        "spring.cache.type=none",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "musinsa.pricing.source=" + source)
+                .run();
+        seed(context.getBean(JdbcTemplate.class), brandCount, categoryCount);
+
+        // 직접 적재한 데이터를 가격 인덱스에 반영
+        context.publishEvent(CatalogChangedEvent.catalogReloaded());
+        productService = context.getBean(ProductService.class);
+        categoryName = "C" + (categoryCount / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LowestPriceBrandsDto lowestPriceBrands() {
+        return productService.getLowestPriceBrands();
+    }
+
+    @Benchmark
+    public LowestPriceBrandDto lowestPriceBrand() {
+        return productService.getLowestPriceBrand();
+    }
+
+    @Benchmark
+    public CategoryPriceRangeDto categoryPriceRange() {
+        return productService.getCategoryPriceRange(categoryName);
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, int brandCount, int categoryCount) {
+        List<Object[]> categories = new ArrayList<>(categoryCount);
+        for (int c = 1; c <= categoryCount; c++) {
+            categories.add(new Object[]{c, "C" + c});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO CATEGORY (id, name) VALUES (?, ?)", categories);
+
+        List<Object[]> brands = new ArrayList<>(BATCH_SIZE);
+        for (int b = 1; b <= brandCount; b++) {
+            brands.add(new Object[]{b, "B" + b});
+            if (brands.size() == BATCH_SIZE || b == brandCount) {
+                jdbcTemplate.batchUpdate("INSERT INTO BRAND (id, name) VALUES (?, ?)", brands);
+                brands.clear();
+            }
+        }
+
+        // 매 실행이 같은 카탈로그를 측정하도록 고정 시드 사용
+        Random random = new Random(42);
+        List<Object[]> products = new ArrayList<>(BATCH_SIZE);
+        long id = 1;
+        for (int b = 1; b <= brandCount; b++) {
+            for (int c = 1; c <= categoryCount; c++) {
+                products.add(new Object[]{id++, b, c, 1_000 + random.nextInt(99_000)});
+                if (products.size() == BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate("INSERT INTO PRODUCT (id, brand_id, category_id, price) VALUES (?, ?, ?, ?)", products);
+                    products.clear();
+                }
+            }
+        }
+        if (!products.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO PRODUCT (id, brand_id, category_id, price) VALUES (?, ?, ?, ?)", products);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.musinsa.exam.cache;
+
+import java.util.List;
+
+/**
+ * 조회 API 응답 캐시 이름입니다. application.yml의 spring.cache.cache-names와 일치해야 합니다.
+ */
+public final class CacheNames {
+
+    public static final String LOWEST_PRICE_BRANDS = "lowestPriceBrands";
+    public static final String LOWEST_PRICE_BRAND = "lowestPriceBrand";
+    public static final String CATEGORY_PRICE_RANGE = "categoryPriceRange";
+    public static final String CATEGORIES = "categories";
+
+    public static final List<String> ALL = List.of(LOWEST_PRICE_BRANDS, LOWEST_PRICE_BRAND, CATEGORY_PRICE_RANGE, CATEGORIES);
+
+    /**
+     * 방금 쓴 클라이언트의 요청처럼 primary에 고정된 호출은 캐시를 읽지도 채우지도 않도록 하는 {@code @Cacheable} 조건입니다.
+     * 다른 클라이언트가 복제본에서 읽어 채운 항목은 복제 지연만큼 이전 데이터일 수 있기 때문입니다.
+     */
+    public static final String UNLESS_PINNED_TO_PRIMARY = "!T(com.musinsa.exam.replica.PrimaryPin).isPinned()";
+
+    private CacheNames() {
+    }
+}
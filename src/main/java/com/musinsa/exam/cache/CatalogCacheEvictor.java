@@ -0,0 +1,61 @@
+package com.musinsa.exam.cache;
+
+import com.musinsa.exam.event.CatalogChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 카탈로그 변경에 영향을 받는 캐시 키만 제거합니다.
+ * 가격 인덱스가 갱신된 뒤, 카탈로그 버전이 증가하기 전에 실행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.getType() == CatalogChangedEvent.Type.CATALOG_RELOADED) {
+            clearAll();
+            return;
+        }
+
+        // 브랜드 추가/변경/삭제는 단일 브랜드 최저가 결과를 바꿀 수 있음
+        evict(CacheNames.LOWEST_PRICE_BRAND, SimpleKey.EMPTY);
+
+        // 상품이 있는 카테고리가 바뀐 경우에만 카테고리별 최저가와 해당 카테고리 범위를 제거
+        if (!event.getCategoryNames().isEmpty()) {
+            evict(CacheNames.LOWEST_PRICE_BRANDS, SimpleKey.EMPTY);
+            for (String categoryName : event.getCategoryNames()) {
+                evict(CacheNames.CATEGORY_PRICE_RANGE, categoryName);
+            }
+        }
+    }
+
+    private void clearAll() {
+        for (String cacheName : CacheNames.ALL) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        log.debug("Cleared caches {}", CacheNames.ALL);
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evictIfPresent(key);
+            log.debug("Evicted cache {}[{}]", cacheName, key);
+        }
+    }
+}
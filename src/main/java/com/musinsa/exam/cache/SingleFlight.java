@@ -0,0 +1,18 @@
+package com.musinsa.exam.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 같은 인자로 동시에 들어온 호출을 한 번만 실행하고 결과를 나눠 갖도록 표시합니다. 처리는 {@link SingleFlightAspect}가 맡습니다.
+ * <p>
+ * 캐시 조언보다 바깥에서 실행되므로 {@code @Cacheable} 메서드에 함께 붙이면 캐시가 꺼져 있거나 primary 고정으로 캐시를 건너뛸 때도
+ * 동시 호출을 합치고, 캐시 적재 중에는 stale-while-revalidate로 직전 결과를 반환할 수 있습니다.
+ * 인자 조합이 많아 캐시하지 않는 일괄 조회나 메인 화면 집계에도 붙여, 동시에 몰린 요청이 같은 집계를 각자 계산하지 않게 합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+}
@@ -0,0 +1,133 @@
+package com.musinsa.exam.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.musinsa.exam.event.CatalogVersion;
+import com.musinsa.exam.replica.PrimaryPin;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link SingleFlight} 메서드의 동시 호출을 합칩니다.
+ * <p>
+ * 같은 메서드와 인자, 같은 카탈로그 버전의 호출이 이미 실행 중이면 새로 실행하지 않고 그 호출의 future를 기다립니다.
+ * 버전을 키에 넣으므로 변경이 커밋된 뒤 들어온 호출은 그 전에 시작된 계산에 합류하지 않습니다.
+ * {@code musinsa.single-flight.stale-while-revalidate=true}이면 실행 중인 호출이 있을 때 기다리지 않고
+ * 직전에 성공한 결과를 바로 반환하며, 새 결과는 실행 중인 호출이 끝나는 대로 교체됩니다.
+ * <p>
+ * 호출자가 트랜잭션 안에 있으면 커밋되지 않은 자신의 변경을 읽어야 하므로 합치지 않고 그대로 실행합니다.
+ * {@link PrimaryPin}으로 고정된 호출은 고정된 호출끼리만 합치고, 복제본에서 읽었을 수 있는 직전 결과는 반환하지 않습니다.
+ * <p>
+ * 서비스 타이머, 캐시, 트랜잭션보다 바깥에서 실행됩니다. 합쳐진 호출은 서비스 타이머에 잡히지 않으며,
+ * {@code @Cacheable} 메서드에서는 캐시 적중도 직접 실행({@code executed})으로 셉니다.
+ */
+@Aspect
+@Component
+@Order(0)
+public class SingleFlightAspect {
+
+    /**
+     * stale-while-revalidate용으로 보관하는 직전 결과 수입니다. 카테고리 이름 목록처럼 인자 조합이 많은 메서드가 있어 제한합니다.
+     */
+    static final int MAX_LAST_RESULTS = 1_000;
+
+    private final CatalogVersion catalogVersion;
+    private final MeterRegistry meterRegistry;
+    private final boolean staleWhileRevalidate;
+
+    private final ConcurrentMap<Flight, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<Call, Completed> lastResults = Caffeine.newBuilder().maximumSize(MAX_LAST_RESULTS).build();
+
+    public SingleFlightAspect(CatalogVersion catalogVersion, MeterRegistry meterRegistry,
+                              @Value("${musinsa.single-flight.stale-while-revalidate:false}") boolean staleWhileRevalidate) {
+        this.catalogVersion = catalogVersion;
+        this.meterRegistry = meterRegistry;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    @Around("@annotation(com.musinsa.exam.cache.SingleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Call call = new Call(method, Arrays.asList(joinPoint.getArgs()));
+        // 계산 도중 변경이 커밋되더라도 이전 버전의 계산으로 남도록 실행 전에 읽음
+        long version = catalogVersion.current();
+        boolean pinned = PrimaryPin.isPinned();
+        Flight flight = new Flight(call, version, pinned);
+
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(flight, created);
+        if (running != null) {
+            if (staleWhileRevalidate && !pinned) {
+                Completed previous = lastResults.getIfPresent(call);
+                if (previous != null) {
+                    count(method, "stale");
+                    return previous.value();
+                }
+            }
+            count(method, "coalesced");
+            return await(running);
+        }
+
+        count(method, "executed");
+        try {
+            Object result = joinPoint.proceed();
+            created.complete(result);
+            if (staleWhileRevalidate && result != null) {
+                lastResults.asMap().merge(call, new Completed(version, result),
+                        (current, candidate) -> candidate.version() >= current.version() ? candidate : current);
+            }
+            return result;
+        } catch (Throwable e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flight, created);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> running) throws Throwable {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void count(Method method, String outcome) {
+        Counter.builder("musinsa.single.flight.calls")
+                .description("단일 실행 대상 메서드 호출 수 (executed: 직접 실행, coalesced: 실행 중인 호출 결과 공유, stale: 직전 결과 반환)")
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record Call(Method method, List<Object> args) {
+    }
+
+    private record Flight(Call call, long version, boolean pinned) {
+    }
+
+    private record Completed(long version, Object value) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.musinsa.exam.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * 가상 스레드 모드에서는 Caffeine을 비동기 캐시로 전환합니다.
+     * 동기 캐시의 {@code sync = true} 조회는 ConcurrentHashMap.compute의 synchronized 블록 안에서 서비스(JDBC)를 호출하므로
+     * 가상 스레드가 캐리어 스레드에 고정됩니다. 비동기 캐시는 맵에 future만 넣고 값 계산은 가상 스레드 실행기에서 하며,
+     * 호출 스레드는 future를 기다리는 동안 캐리어를 놓아줍니다.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public CacheManagerCustomizer<CaffeineCacheManager> virtualThreadCacheCustomizer(CacheProperties cacheProperties) {
+        return cacheManager -> {
+            String spec = cacheProperties.getCaffeine().getSpec();
+            Caffeine<Object, Object> caffeine = StringUtils.hasText(spec) ? Caffeine.from(spec) : Caffeine.newBuilder();
+            cacheManager.setCaffeine(caffeine.executor(Executors.newVirtualThreadPerTaskExecutor()));
+            cacheManager.setAsyncCacheMode(true);
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.musinsa.exam.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 여러 인스턴스를 함께 운영할 때 카탈로그 변경 아웃박스를 켭니다: musinsa.outbox.enabled=true
+ * 모든 인스턴스가 같은 데이터베이스를 바라봐야 하며, 별도의 메시지 브로커는 필요하지 않습니다.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "musinsa.outbox.enabled", havingValue = "true")
+public class OutboxConfig {
+}
@@ -0,0 +1,85 @@
+package com.musinsa.exam.config;
+
+import com.musinsa.exam.replica.H2ReplicationEmulator;
+import com.musinsa.exam.replica.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본 풀로 보내는 데이터소스 구성입니다. {@code musinsa.replica.enabled=true}일 때만 적용되며,
+ * 그 외에는 Spring Boot가 만드는 데이터소스 하나를 그대로 씁니다.
+ * <p>
+ * primary는 {@code spring.datasource.*}, 복제본은 {@code musinsa.replica.urls}(쉼표 구분)로 지정하고 계정은 primary와 같습니다.
+ * 애플리케이션이 쓰는 데이터소스는 라우팅 데이터소스를 {@link LazyConnectionDataSourceProxy}로 감싼 것입니다.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "musinsa.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * 복제본마다 읽기 전용 풀을 만들고 풀 이름(replica-0, replica-1, ...)별 hikaricp 메트릭을 등록해 부하 분산을 확인할 수 있게 합니다.
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             MeterRegistry meterRegistry,
+                                                             @Value("${musinsa.replica.urls}") List<String> replicaUrls) {
+        List<DataSource> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(replicaUrls.get(i))
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build();
+            replica.setPoolName("replica-" + i);
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+            replica.setMetricRegistry(meterRegistry);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * 로컬 데모와 테스트에서 H2 복제본을 primary와 맞춥니다. {@code musinsa.replica.emulated-replication-interval}을 지정할 때만 켜집니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "musinsa.replica.emulated-replication-interval")
+    public H2ReplicationEmulator h2ReplicationEmulator(HikariDataSource primaryDataSource,
+                                                       DataSourceProperties properties,
+                                                       @Value("${musinsa.replica.urls}") List<String> replicaUrls) {
+        return new H2ReplicationEmulator(primaryDataSource, replicaUrls,
+                properties.determineUsername(), properties.determinePassword());
+    }
+}
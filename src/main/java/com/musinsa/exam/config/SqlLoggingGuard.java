@@ -0,0 +1,50 @@
+package com.musinsa.exam.config;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 운영 프로필에서 SQL 출력이나 바인딩 값 로그가 켜져 있으면 애플리케이션 시작을 중단합니다.
+ * 요청마다 SQL을 표준 출력과 로그 appender에 쓰면 스레드가 로그 출력에서 직렬화되어 처리량이 크게 떨어집니다.
+ */
+@Component
+@Profile("prod")
+@RequiredArgsConstructor
+public class SqlLoggingGuard implements InitializingBean {
+
+    private static final String[] SQL_LOGGERS = {
+            "org.hibernate.SQL",
+            "org.hibernate.orm.jdbc.bind",
+            "org.hibernate.type.descriptor.sql.BasicBinder"
+    };
+
+    private final Environment environment;
+
+    @Override
+    public void afterPropertiesSet() {
+        List<String> violations = new ArrayList<>();
+        if (environment.getProperty("spring.jpa.show-sql", Boolean.class, false)) {
+            violations.add("spring.jpa.show-sql=true");
+        }
+        if (environment.getProperty("spring.jpa.properties.hibernate.show_sql", Boolean.class, false)) {
+            violations.add("hibernate.show_sql=true");
+        }
+        for (String name : SQL_LOGGERS) {
+            Logger logger = LoggerFactory.getLogger(name);
+            if (logger.isDebugEnabled()) {
+                violations.add(name + " logger at " + (logger.isTraceEnabled() ? "TRACE" : "DEBUG"));
+            }
+        }
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Verbose SQL logging must be disabled in the prod profile: " + violations);
+        }
+    }
+}
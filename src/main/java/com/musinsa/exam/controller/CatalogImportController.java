@@ -0,0 +1,35 @@
+package com.musinsa.exam.controller;
+
+import com.musinsa.exam.dto.CatalogImportResultDto;
+import com.musinsa.exam.importer.CatalogFileFormat;
+import com.musinsa.exam.importer.CatalogImporter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Tag(name = "Catalog Import API", description = "카탈로그 대량 적재 API")
+public class CatalogImportController {
+
+    private final CatalogImporter catalogImporter;
+
+    /**
+     * 요청 본문을 메모리에 모두 읽지 않고 스트림으로 받아 배치 단위로 적재합니다.
+     */
+    @Operation(summary = "카탈로그 대량 적재",
+            description = "CSV(text/csv) 또는 NDJSON(application/x-ndjson) 본문의 브랜드/카테고리/가격 행을 배치 단위로 추가하거나 수정합니다. 없는 브랜드와 카테고리는 새로 만듭니다.")
+    @PostMapping(value = "/catalog:import",
+            consumes = {CatalogFileFormat.CSV_MEDIA_TYPE, CatalogFileFormat.NDJSON_MEDIA_TYPE})
+    public ResponseEntity<CatalogImportResultDto> importCatalog(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        CatalogImportResultDto result = catalogImporter.importCatalog(body, CatalogFileFormat.fromContentType(contentType));
+        return ResponseEntity.ok(result);
+    }
+}
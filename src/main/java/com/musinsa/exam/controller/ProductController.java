@@ -3,13 +3,30 @@ package com.musinsa.exam.controller;
 import com.musinsa.exam.dto.LowestPriceBrandsDto;
 import com.musinsa.exam.dto.LowestPriceBrandDto;
 import com.musinsa.exam.dto.CategoryPriceRangeDto;
+import com.musinsa.exam.dto.CategoryRankingDto;
+import com.musinsa.exam.dto.DashboardDto;
+import com.musinsa.exam.dto.OutfitDto;
+import com.musinsa.exam.dto.OutfitRequestDto;
+import com.musinsa.exam.dto.ProductBatchResultDto;
+import com.musinsa.exam.dto.ProductDto;
+import com.musinsa.exam.exporter.CatalogExporter;
+import com.musinsa.exam.importer.CatalogFileFormat;
 import com.musinsa.exam.model.Brand;
 import com.musinsa.exam.service.ProductService;
+import com.musinsa.exam.snapshot.JsonSnapshot;
+import com.musinsa.exam.snapshot.JsonSnapshots;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -20,26 +37,65 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final JsonSnapshots jsonSnapshots;
+    private final CatalogExporter catalogExporter;
 
     @Operation(summary = "카테고리별 최저가 브랜드 조회", description = "각 카테고리별 최저가 브랜드와 가격, 총액을 조회합니다.")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = LowestPriceBrandsDto.class)))
     @GetMapping("/lowest-price-brands")
-    public ResponseEntity<LowestPriceBrandsDto> getLowestPriceBrands() {
-        LowestPriceBrandsDto result = productService.getLowestPriceBrands();
-        return ResponseEntity.ok(result);
+    public ResponseEntity<byte[]> getLowestPriceBrands() {
+        JsonSnapshot snapshot = jsonSnapshots.get("lowest-price-brands", productService::getLowestPriceBrands);
+        return toResponse(snapshot);
     }
 
     @Operation(summary = "단일 브랜드 최저가 조회", description = "모든 카테고리 상품을 구매할 때 최저가격 브랜드와 총액을 조회합니다.")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = LowestPriceBrandDto.class)))
     @GetMapping("/lowest-price-brand")
-    public ResponseEntity<LowestPriceBrandDto> getLowestPriceBrand() {
-        LowestPriceBrandDto result = productService.getLowestPriceBrand();
-        return ResponseEntity.ok(result);
+    public ResponseEntity<byte[]> getLowestPriceBrand() {
+        JsonSnapshot snapshot = jsonSnapshots.get("lowest-price-brand", productService::getLowestPriceBrand);
+        return toResponse(snapshot);
     }
 
     @Operation(summary = "카테고리별 최저/최고가 브랜드 조회", description = "특정 카테고리의 최저가와 최고가 브랜드 및 가격을 조회합니다.")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = CategoryPriceRangeDto.class)))
     @GetMapping("/category-price-range")
-    public ResponseEntity<CategoryPriceRangeDto> getCategoryPriceRange(@RequestParam String category) {
-        CategoryPriceRangeDto result = productService.getCategoryPriceRange(category);
-        return ResponseEntity.ok(result);
+    public ResponseEntity<byte[]> getCategoryPriceRange(@RequestParam String category) {
+        JsonSnapshot snapshot = jsonSnapshots.get("category-price-range:" + category,
+                () -> productService.getCategoryPriceRange(category));
+        return toResponse(snapshot);
+    }
+
+    @Operation(summary = "여러 카테고리 최저/최고가 일괄 조회", description = "요청한 카테고리들의 최저가와 최고가 브랜드 및 가격을 요청 순서대로 한 번에 조회합니다. 상품이 없는 카테고리는 최저가/최고가가 비어 있습니다.")
+    @PostMapping("/category-price-range:batch")
+    public ResponseEntity<List<CategoryPriceRangeDto>> getCategoryPriceRanges(@RequestBody List<String> categories) {
+        List<CategoryPriceRangeDto> ranges = productService.getCategoryPriceRanges(categories);
+        return ResponseEntity.ok(ranges);
+    }
+
+    @Operation(summary = "메인 화면 일괄 조회", description = "카테고리 목록, 카테고리별 최저가, 단일 브랜드 최저가, 모든 카테고리의 최저/최고가를 한 번에 조회합니다.")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = DashboardDto.class)))
+    @GetMapping("/dashboard")
+    public ResponseEntity<byte[]> getDashboard() {
+        JsonSnapshot snapshot = jsonSnapshots.get("dashboard", productService::getDashboard);
+        return toResponse(snapshot);
+    }
+
+    @Operation(summary = "카테고리 가격 순위 조회", description = "카테고리에서 가격 범위 안의 브랜드를 가격 오름차순으로 조회합니다. 응답의 다음 커서를 cursor로 전달하면 다음 페이지를 조회합니다.")
+    @GetMapping("/category/{name}/ranking")
+    public ResponseEntity<CategoryRankingDto> getCategoryRanking(@PathVariable String name,
+                                                                 @RequestParam(defaultValue = "10") int limit,
+                                                                 @RequestParam(required = false) Integer minPrice,
+                                                                 @RequestParam(required = false) Integer maxPrice,
+                                                                 @RequestParam(required = false) String cursor) {
+        CategoryRankingDto ranking = productService.getCategoryRanking(name, limit, minPrice, maxPrice, cursor);
+        return ResponseEntity.ok(ranking);
+    }
+
+    @Operation(summary = "최저가 코디 계산", description = "최대 브랜드 수, 제외/포함 브랜드, 카테고리별 예산 조건을 만족하면서 모든 카테고리를 한 상품씩 사는 최저가 조합을 계산합니다.")
+    @PostMapping("/outfit/optimize")
+    public ResponseEntity<OutfitDto> optimizeOutfit(@RequestBody OutfitRequestDto request) {
+        OutfitDto outfit = productService.optimizeOutfit(request);
+        return ResponseEntity.ok(outfit);
     }
 
     @Operation(summary = "새 브랜드 추가", description = "새로운 브랜드를 추가합니다.")
@@ -63,10 +119,63 @@ public class ProductController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(summary = "새 상품 추가", description = "브랜드/카테고리 이름과 가격으로 새 상품을 추가합니다.")
+    @PostMapping("/product")
+    public ResponseEntity<ProductDto> addProduct(@RequestBody ProductDto product) {
+        ProductDto newProduct = productService.addProduct(product);
+        return ResponseEntity.ok(newProduct);
+    }
+
+    @Operation(summary = "상품 정보 수정", description = "기존 상품의 브랜드, 카테고리, 가격을 수정합니다.")
+    @PutMapping("/product/{productId}")
+    public ResponseEntity<ProductDto> updateProduct(@PathVariable Long productId, @RequestBody ProductDto product) {
+        ProductDto updatedProduct = productService.updateProduct(productId, product);
+        return ResponseEntity.ok(updatedProduct);
+    }
+
+    @Operation(summary = "상품 삭제", description = "특정 상품을 삭제합니다.")
+    @DeleteMapping("/product/{productId}")
+    public ResponseEntity<Void> deleteProduct(@PathVariable Long productId) {
+        productService.deleteProduct(productId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "상품 일괄 추가/수정", description = "여러 상품을 한 트랜잭션에서 추가하거나 가격을 수정합니다. 같은 브랜드/카테고리가 여러 번 오면 마지막 값이 적용됩니다.")
+    @PostMapping("/products:batch")
+    public ResponseEntity<ProductBatchResultDto> upsertProducts(@RequestBody List<ProductDto> products) {
+        ProductBatchResultDto result = productService.upsertProducts(products);
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "전체 상품 내보내기", description = "모든 상품을 브랜드/카테고리 이름과 함께 NDJSON(기본) 또는 CSV로 스트리밍합니다.")
+    @GetMapping("/products/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(@RequestParam(defaultValue = "ndjson") String format) {
+        CatalogFileFormat fileFormat = CatalogFileFormat.fromName(format);
+        StreamingResponseBody body = output -> catalogExporter.export(output, fileFormat);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(fileFormat.mediaType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("products." + fileFormat.name().toLowerCase())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @Operation(summary = "모든 카테고리 조회", description = "모든 카테고리 목록을 조회합니다.")
     @GetMapping("/categories")
     public ResponseEntity<List<String>> getCategories() {
         List<String> categories = productService.getAllCategories();
         return ResponseEntity.ok(categories);
     }
-}
\ No newline at end of file
+
+    /**
+     * 미리 직렬화된 응답을 강한 ETag와 함께 반환합니다.
+     * If-None-Match가 일치하면 Spring MVC가 본문 없이 304 Not Modified로 응답합니다.
+     */
+    private ResponseEntity<byte[]> toResponse(JsonSnapshot snapshot) {
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
+    }
+}
@@ -0,0 +1,32 @@
+package com.musinsa.exam.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogImportResultDto {
+    @JsonProperty("처리행수")
+    private long rows;
+
+    @JsonProperty("추가")
+    private long inserted;
+
+    @JsonProperty("수정")
+    private long updated;
+
+    @JsonProperty("신규브랜드")
+    private int brandsCreated;
+
+    @JsonProperty("신규카테고리")
+    private int categoriesCreated;
+
+    @JsonProperty("소요시간(ms)")
+    private long elapsedMillis;
+
+    @JsonProperty("초당처리행수")
+    private long rowsPerSecond;
+}
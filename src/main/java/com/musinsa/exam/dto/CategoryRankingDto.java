@@ -0,0 +1,30 @@
+package com.musinsa.exam.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CategoryRankingDto {
+    @JsonProperty("카테고리")
+    private String category;
+
+    @JsonProperty("브랜드")
+    private List<BrandPrice> brands;
+
+    /**
+     * 다음 페이지 조회 시 cursor 파라미터로 전달합니다. 더 이상 결과가 없으면 null입니다.
+     */
+    @JsonProperty("다음 커서")
+    private String nextCursor;
+
+    @Data
+    public static class BrandPrice {
+        @JsonProperty("브랜드")
+        private String brand;
+
+        @JsonProperty("가격")
+        private int price;
+    }
+}
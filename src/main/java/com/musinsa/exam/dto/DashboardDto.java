@@ -0,0 +1,25 @@
+package com.musinsa.exam.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 메인 화면을 한 번의 응답으로 그리기 위한 조회 결과입니다.
+ * 상품이나 모든 카테고리를 갖춘 브랜드가 없으면 해당 항목은 null입니다.
+ */
+@Data
+public class DashboardDto {
+    @JsonProperty("카테고리")
+    private List<String> categories;
+
+    @JsonProperty("카테고리별 최저가")
+    private LowestPriceBrandsDto lowestPriceBrands;
+
+    @JsonProperty("단일 브랜드 최저가")
+    private LowestPriceBrandDto lowestPriceBrand;
+
+    @JsonProperty("카테고리별 가격 범위")
+    private List<CategoryPriceRangeDto> priceRanges;
+}
@@ -18,7 +18,7 @@ public class LowestPriceBrandDto {
         private List<CategoryPrice> categories;
 
         @JsonProperty("총액")
-        private int totalPrice;
+        private long totalPrice;
     }
 
     @Data
@@ -10,7 +10,7 @@ public class LowestPriceBrandsDto {
     private List<CategoryPrice> categoryPrices;
 
     @JsonProperty("총액")
-    private int totalPrice;
+    private long totalPrice;
 
     @Data
     public static class CategoryPrice {
@@ -0,0 +1,30 @@
+package com.musinsa.exam.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class OutfitDto {
+    @JsonProperty("카테고리")
+    private List<CategoryPrice> categoryPrices;
+
+    @JsonProperty("브랜드 수")
+    private int brandCount;
+
+    @JsonProperty("총액")
+    private long totalPrice;
+
+    @Data
+    public static class CategoryPrice {
+        @JsonProperty("카테고리")
+        private String category;
+
+        @JsonProperty("브랜드")
+        private String brand;
+
+        @JsonProperty("가격")
+        private int price;
+    }
+}
@@ -0,0 +1,32 @@
+package com.musinsa.exam.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutfitRequestDto {
+    /**
+     * 코디에 쓸 수 있는 서로 다른 브랜드의 최대 수입니다. 없으면 제한하지 않습니다.
+     */
+    @JsonProperty("최대 브랜드 수")
+    private Integer maxBrands;
+
+    @JsonProperty("제외 브랜드")
+    private List<String> excludedBrands;
+
+    /**
+     * 각 브랜드가 한 카테고리 이상에 포함되어야 합니다.
+     */
+    @JsonProperty("포함 브랜드")
+    private List<String> requiredBrands;
+
+    @JsonProperty("카테고리별 예산")
+    private Map<String, Integer> categoryBudgets;
+}
@@ -0,0 +1,17 @@
+package com.musinsa.exam.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBatchResultDto {
+    @JsonProperty("추가")
+    private int inserted;
+
+    @JsonProperty("수정")
+    private int updated;
+}
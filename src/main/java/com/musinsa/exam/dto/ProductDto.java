@@ -0,0 +1,29 @@
+package com.musinsa.exam.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.musinsa.exam.model.Product;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDto {
+    @JsonProperty("id")
+    private Long id;
+
+    @JsonProperty("브랜드")
+    private String brand;
+
+    @JsonProperty("카테고리")
+    private String category;
+
+    @JsonProperty("가격")
+    private Integer price;
+
+    public static ProductDto from(Product product) {
+        return new ProductDto(product.getId(), product.getBrand().getName(),
+                product.getCategory().getName(), product.getPrice());
+    }
+}
@@ -0,0 +1,70 @@
+package com.musinsa.exam.event;
+
+import com.musinsa.exam.model.Brand;
+import com.musinsa.exam.model.Product;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 브랜드/상품 데이터가 변경되었음을 알리는 이벤트입니다.
+ * 트랜잭션 커밋 이후 인메모리 가격 인덱스와 응답 캐시 등에 반영됩니다.
+ */
+@Value
+public class CatalogChangedEvent {
+
+    public enum Type {
+        BRAND_SAVED,
+        BRAND_DELETED,
+        PRODUCTS_CHANGED,
+        /**
+         * 대량 적재처럼 변경 내용을 건별로 전달하지 않는 경우로, 구독자는 전체를 다시 읽어야 합니다.
+         */
+        CATALOG_RELOADED
+    }
+
+    /**
+     * 상품 한 건의 변경 내용입니다. price가 null이면 해당 브랜드/카테고리 상품이 삭제된 것입니다.
+     */
+    public record ProductChange(Long brandId, Long categoryId, String categoryName, Integer price) {
+
+        public static ProductChange saved(Product product) {
+            return new ProductChange(product.getBrand().getId(), product.getCategory().getId(),
+                    product.getCategory().getName(), product.getPrice());
+        }
+
+        public static ProductChange removed(Product product) {
+            return new ProductChange(product.getBrand().getId(), product.getCategory().getId(),
+                    product.getCategory().getName(), null);
+        }
+    }
+
+    Type type;
+    Long brandId;
+    String brandName;
+    /**
+     * 변경으로 가격 조회 결과가 달라질 수 있는 카테고리 이름 목록입니다.
+     */
+    List<String> categoryNames;
+    List<ProductChange> products;
+
+    public static CatalogChangedEvent brandSaved(Brand brand, List<String> categoryNames) {
+        return new CatalogChangedEvent(Type.BRAND_SAVED, brand.getId(), brand.getName(), List.copyOf(categoryNames), List.of());
+    }
+
+    public static CatalogChangedEvent brandDeleted(Long brandId, List<String> categoryNames) {
+        return new CatalogChangedEvent(Type.BRAND_DELETED, brandId, null, List.copyOf(categoryNames), List.of());
+    }
+
+    public static CatalogChangedEvent productsChanged(List<ProductChange> products) {
+        List<String> categoryNames = products.stream()
+                .map(ProductChange::categoryName)
+                .distinct()
+                .toList();
+        return new CatalogChangedEvent(Type.PRODUCTS_CHANGED, null, null, categoryNames, List.copyOf(products));
+    }
+
+    public static CatalogChangedEvent catalogReloaded() {
+        return new CatalogChangedEvent(Type.CATALOG_RELOADED, null, null, List.of(), List.of());
+    }
+}
@@ -0,0 +1,28 @@
+package com.musinsa.exam.event;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커밋된 카탈로그 변경마다 1씩 증가하는 버전입니다.
+ * 인덱스 갱신과 캐시 제거가 모두 끝난 뒤 증가하므로, 새 버전을 본 조회는 항상 변경 이후의 데이터를 읽습니다.
+ */
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -1,11 +1,15 @@
 package com.musinsa.exam.exception;
 
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -13,6 +17,8 @@ import java.util.Map;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<Object> handleResourceNotFoundException(
             ResourceNotFoundException ex, WebRequest request) {
@@ -31,6 +37,40 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex, HttpStatus.CONFLICT, request);
     }
 
+    /**
+     * 같은 행을 동시에 수정해 버전이 맞지 않거나 행 잠금을 기다리다 시간이 초과된 경우입니다.
+     * 먼저 커밋된 변경은 그대로 두고, 나중 요청은 다시 읽은 뒤 재시도하도록 409로 응답합니다.
+     */
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<Object> handleConcurrencyFailureException(
+            ConcurrencyFailureException ex, WebRequest request) {
+        return buildErrorResponse("Resource was modified concurrently, please retry", HttpStatus.CONFLICT, request);
+    }
+
+    /**
+     * 서비스에서 처리하지 못한 제약 조건 위반입니다. 커밋 시점의 유니크 키 충돌(SQLState 23505)만 기존 데이터와의 충돌로 409,
+     * 값 길이 초과나 참조 무결성 위반처럼 요청 값을 저장할 수 없는 경우는 400으로 응답합니다. SQL 내용은 응답에 노출하지 않습니다.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Object> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex, WebRequest request) {
+        if (ex.getMostSpecificCause() instanceof SQLException sqlException
+                && UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+            return buildErrorResponse("Request conflicts with existing data", HttpStatus.CONFLICT, request);
+        }
+        return buildErrorResponse("Request violates a data constraint", HttpStatus.BAD_REQUEST, request);
+    }
+
+    /**
+     * 커넥션 풀이 가득 차 connection-timeout 안에 커넥션을 얻지 못한 경우입니다.
+     * 서버 오류가 아니라 일시적인 과부하이므로 클라이언트가 재시도할 수 있도록 503으로 응답합니다.
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<Object> handleCannotCreateTransactionException(
+            CannotCreateTransactionException ex, WebRequest request) {
+        return buildErrorResponse(ex, HttpStatus.SERVICE_UNAVAILABLE, request);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleGlobalException(
             Exception ex, WebRequest request) {
@@ -39,11 +79,16 @@ public class GlobalExceptionHandler {
 
     private ResponseEntity<Object> buildErrorResponse(
             Exception ex, HttpStatus status, WebRequest request) {
+        return buildErrorResponse(ex.getMessage(), status, request);
+    }
+
+    private ResponseEntity<Object> buildErrorResponse(
+            String message, HttpStatus status, WebRequest request) {
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("timestamp", LocalDateTime.now());
         body.put("status", status.value());
         body.put("error", status.getReasonPhrase());
-        body.put("message", ex.getMessage());
+        body.put("message", message);
         body.put("path", request.getDescription(false));
 
         return new ResponseEntity<>(body, status);
@@ -0,0 +1,88 @@
+package com.musinsa.exam.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.musinsa.exam.dto.ProductDto;
+import com.musinsa.exam.importer.CatalogFileFormat;
+import com.musinsa.exam.repository.ProductRepository;
+import com.musinsa.exam.repository.projection.ProductView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 상품을 브랜드/카테고리 이름과 함께 CSV 또는 NDJSON으로 내보냅니다.
+ * 읽기 전용 트랜잭션에서 한 방향 스트림으로 읽은 행을 바로 출력 스트림에 쓰므로
+ * 카탈로그 크기와 관계없이 메모리에는 버퍼 하나 분량만 유지됩니다.
+ */
+@Slf4j
+@Service
+public class CatalogExporter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ProductRepository productRepository;
+    private final ObjectWriter productWriter;
+
+    public CatalogExporter(ProductRepository productRepository, ObjectMapper objectMapper) {
+        this.productRepository = productRepository;
+        this.productWriter = objectMapper.writerFor(ProductDto.class);
+    }
+
+    /**
+     * 출력 스트림은 닫지 않으며, 내보낸 행 수를 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public long export(OutputStream output, CatalogFileFormat format) {
+        long rows = 0;
+        try (Stream<ProductView> products = productRepository.streamAllViews()) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+            if (format == CatalogFileFormat.CSV) {
+                writer.write("브랜드,카테고리,가격\n");
+            }
+            Iterator<ProductView> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                ProductView product = iterator.next();
+                if (format == CatalogFileFormat.CSV) {
+                    writeCsv(writer, product);
+                } else {
+                    writer.write(productWriter.writeValueAsString(
+                            new ProductDto(product.id(), product.brand(), product.category(), product.price())));
+                    writer.write('\n');
+                }
+                rows++;
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Catalog export finished: {} rows as {}", rows, format);
+        return rows;
+    }
+
+    private void writeCsv(Writer writer, ProductView product) throws IOException {
+        writer.write(csvField(product.brand()));
+        writer.write(',');
+        writer.write(csvField(product.category()));
+        writer.write(',');
+        writer.write(Integer.toString(product.price()));
+        writer.write('\n');
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,53 @@
+package com.musinsa.exam.importer;
+
+import com.musinsa.exam.exception.InvalidInputException;
+
+import java.util.Locale;
+
+/**
+ * 카탈로그 대량 적재/내보내기 파일 형식입니다.
+ * CSV는 {@code 브랜드,카테고리,가격} 순서의 행이며 첫 줄이 헤더일 수 있고,
+ * NDJSON은 한 줄에 {@code {"브랜드":"A","카테고리":"상의","가격":11200}} 형태의 객체 하나입니다.
+ */
+public enum CatalogFileFormat {
+    CSV,
+    NDJSON;
+
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    public String mediaType() {
+        return this == CSV ? CSV_MEDIA_TYPE : NDJSON_MEDIA_TYPE;
+    }
+
+    public static CatalogFileFormat fromName(String name) {
+        for (CatalogFileFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new InvalidInputException("Unsupported format: " + name);
+    }
+
+    public static CatalogFileFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".csv")) {
+            return CSV;
+        }
+        if (lower.endsWith(".ndjson") || lower.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new InvalidInputException("Unsupported import file: " + fileName);
+    }
+
+    public static CatalogFileFormat fromContentType(String contentType) {
+        String lower = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+        if (lower.startsWith(CSV_MEDIA_TYPE)) {
+            return CSV;
+        }
+        if (lower.startsWith(NDJSON_MEDIA_TYPE)) {
+            return NDJSON;
+        }
+        throw new InvalidInputException("Unsupported content type: " + contentType);
+    }
+}
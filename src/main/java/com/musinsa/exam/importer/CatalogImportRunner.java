@@ -0,0 +1,37 @@
+package com.musinsa.exam.importer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@code --musinsa.import.file=catalog.csv}로 실행하면 시작 시 해당 파일을 카탈로그에 적재합니다.
+ * 형식은 파일 확장자(.csv, .ndjson, .jsonl)로 판단합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "musinsa.import.file")
+@RequiredArgsConstructor
+public class CatalogImportRunner implements ApplicationRunner {
+
+    private final CatalogImporter catalogImporter;
+
+    @Value("${musinsa.import.file}")
+    private Path file;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("Importing catalog from {}", file);
+        try (InputStream input = Files.newInputStream(file)) {
+            catalogImporter.importCatalog(input, CatalogFileFormat.fromFileName(file.getFileName().toString()));
+        }
+    }
+}
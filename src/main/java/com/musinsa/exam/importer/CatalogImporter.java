@@ -0,0 +1,291 @@
+package com.musinsa.exam.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.exam.dto.CatalogImportResultDto;
+import com.musinsa.exam.dto.ProductDto;
+import com.musinsa.exam.event.CatalogChangedEvent;
+import com.musinsa.exam.exception.InvalidInputException;
+import com.musinsa.exam.model.Brand;
+import com.musinsa.exam.model.Category;
+import com.musinsa.exam.model.Product;
+import com.musinsa.exam.repository.BrandRepository;
+import com.musinsa.exam.repository.CategoryRepository;
+import com.musinsa.exam.repository.ProductRepository;
+import com.musinsa.exam.repository.projection.ProductKeyRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV/NDJSON 파일을 한 줄씩 읽어 카탈로그에 적재합니다.
+ * 브랜드/카테고리 이름은 메모리 사전으로 id를 찾고(처음 나온 이름은 배치 전에 따로 커밋), 상품은 batch-size 행마다 한 트랜잭션으로 추가/수정하므로
+ * 파일 크기와 관계없이 메모리에는 한 배치만 올라갑니다.
+ * 적재 중에는 변경 이벤트를 발행하지 않고, 끝난 뒤 한 번 전체 재적재 이벤트로 가격 인덱스를 다시 만듭니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogImporter {
+
+    private final BrandRepository brandRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${musinsa.import.batch-size:1000}")
+    private int batchSize;
+
+    public CatalogImportResultDto importCatalog(InputStream input, CatalogFileFormat format) {
+        ImportRun run = new ImportRun();
+        long started = System.nanoTime();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<ProductDto> batch = new ArrayList<>(batchSize);
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                ProductDto row = parse(line, lineNumber, format);
+                if (row == null) {
+                    continue;
+                }
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    run.write(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                run.write(batch);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // 중간에 실패해도 이미 커밋된 배치는 인덱스와 캐시에 반영
+            // 트랜잭션 안에서 발행해야 아웃박스를 켠 경우 다른 노드에도 전달됨
+            if (run.rows > 0) {
+                transactionTemplate.executeWithoutResult(status ->
+                        eventPublisher.publishEvent(CatalogChangedEvent.catalogReloaded()));
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        long rowsPerSecond = elapsedNanos == 0 ? run.rows : run.rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        CatalogImportResultDto result = new CatalogImportResultDto(run.rows, run.inserted, run.updated,
+                run.brandsCreated, run.categoriesCreated, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond);
+        log.info("Catalog import finished: {} rows ({} inserted, {} updated) in {} ms, {} rows/s",
+                result.getRows(), result.getInserted(), result.getUpdated(), result.getElapsedMillis(), result.getRowsPerSecond());
+        return result;
+    }
+
+    /**
+     * 한 줄을 상품 행으로 변환합니다. 빈 줄과 CSV 헤더는 null을 반환합니다.
+     */
+    private ProductDto parse(String line, long lineNumber, CatalogFileFormat format) {
+        if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+            line = line.substring(1);
+        }
+        if (line.isBlank()) {
+            return null;
+        }
+
+        ProductDto row;
+        if (format == CatalogFileFormat.CSV) {
+            List<String> columns = splitCsv(line);
+            if (columns.size() != 3) {
+                throw new InvalidInputException("Invalid row at line " + lineNumber + ": " + line);
+            }
+            String price = columns.get(2).trim();
+            if (!isNumber(price)) {
+                if (lineNumber == 1) {
+                    return null;
+                }
+                throw new InvalidInputException("Invalid price at line " + lineNumber + ": " + price);
+            }
+            row = new ProductDto(null, columns.get(0).trim(), columns.get(1).trim(), Integer.valueOf(price));
+        } else {
+            try {
+                row = objectMapper.readValue(line, ProductDto.class);
+            } catch (JsonProcessingException e) {
+                throw new InvalidInputException("Invalid row at line " + lineNumber + ": " + e.getOriginalMessage());
+            }
+        }
+
+        if (row.getBrand() == null || row.getBrand().isBlank()
+                || row.getCategory() == null || row.getCategory().isBlank()
+                || row.getPrice() == null || row.getPrice() <= 0) {
+            throw new InvalidInputException("Invalid row at line " + lineNumber + ": " + line);
+        }
+        return row;
+    }
+
+    /**
+     * 쉼표로 열을 나눕니다. 큰따옴표로 감싼 열 안의 쉼표와 두 번 쓴 큰따옴표("")는 값으로 취급합니다.
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> columns = new ArrayList<>(3);
+        StringBuilder column = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    column.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    column.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(c);
+            }
+        }
+        columns.add(column.toString());
+        return columns;
+    }
+
+    private static boolean isNumber(String value) {
+        if (value.isEmpty() || value.length() > 9) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 한 번의 적재 동안 유지되는 이름 사전과 집계입니다.
+     */
+    private final class ImportRun {
+        private final Map<String, Long> brandIds = new HashMap<>();
+        private final Map<String, Long> categoryIds = new HashMap<>();
+        private long rows;
+        private long inserted;
+        private long updated;
+        private int brandsCreated;
+        private int categoriesCreated;
+
+        private ImportRun() {
+            for (Brand brand : brandRepository.findAll()) {
+                brandIds.put(brand.getName(), brand.getId());
+            }
+            for (Category category : categoryRepository.findAll()) {
+                categoryIds.put(category.getName(), category.getId());
+            }
+        }
+
+        /**
+         * 새 브랜드/카테고리를 먼저 별도 트랜잭션으로 커밋한 뒤 상품을 한 트랜잭션으로 쓰고, 커밋된 뒤에만 집계에 더합니다.
+         */
+        private void write(List<ProductDto> batch) {
+            createMissingNames(batch);
+            BatchCounts counts = transactionTemplate.execute(status -> writeProducts(batch));
+            inserted += counts.inserted();
+            updated += counts.updated();
+            rows += batch.size();
+        }
+
+        /**
+         * 배치에 처음 나온 브랜드/카테고리를 저장합니다. 커밋에 성공한 뒤에만 사전에 넣으므로,
+         * 사전의 id는 항상 실제로 있는 행을 가리키고 이후 배치가 롤백되어도 영향을 받지 않습니다.
+         */
+        private void createMissingNames(List<ProductDto> batch) {
+            Set<String> newBrands = new LinkedHashSet<>();
+            Set<String> newCategories = new LinkedHashSet<>();
+            for (ProductDto row : batch) {
+                if (!brandIds.containsKey(row.getBrand())) {
+                    newBrands.add(row.getBrand());
+                }
+                if (!categoryIds.containsKey(row.getCategory())) {
+                    newCategories.add(row.getCategory());
+                }
+            }
+            if (newBrands.isEmpty() && newCategories.isEmpty()) {
+                return;
+            }
+
+            Map<String, Long> createdBrands = new HashMap<>();
+            Map<String, Long> createdCategories = new HashMap<>();
+            transactionTemplate.executeWithoutResult(status -> {
+                for (String name : newBrands) {
+                    createdBrands.put(name, brandRepository.save(new Brand(null, name)).getId());
+                }
+                for (String name : newCategories) {
+                    createdCategories.put(name, categoryRepository.save(new Category(null, name)).getId());
+                }
+            });
+            brandIds.putAll(createdBrands);
+            categoryIds.putAll(createdCategories);
+            brandsCreated += createdBrands.size();
+            categoriesCreated += createdCategories.size();
+        }
+
+        private BatchCounts writeProducts(List<ProductDto> batch) {
+            // 같은 배치 안에서 같은 브랜드/카테고리가 반복되면 마지막 가격을 적용
+            Map<ProductKey, Integer> prices = new LinkedHashMap<>();
+            for (ProductDto row : batch) {
+                prices.put(new ProductKey(brandIds.get(row.getBrand()), categoryIds.get(row.getCategory())), row.getPrice());
+            }
+
+            Set<Long> batchBrandIds = new HashSet<>();
+            Set<Long> batchCategoryIds = new HashSet<>();
+            for (ProductKey key : prices.keySet()) {
+                batchBrandIds.add(key.brandId());
+                batchCategoryIds.add(key.categoryId());
+            }
+            // 키만 가볍게 읽어 배치에 있는 (브랜드, 카테고리) 조합의 상품 id만 고름
+            List<Long> existingIds = new ArrayList<>();
+            for (ProductKeyRow row : productRepository.findKeysByBrandIdInAndCategoryIdIn(batchBrandIds, batchCategoryIds)) {
+                if (prices.containsKey(new ProductKey(row.brandId(), row.categoryId()))) {
+                    existingIds.add(row.id());
+                }
+            }
+
+            int updatedCount = 0;
+            if (!existingIds.isEmpty()) {
+                // 기존 상품은 변경 감지로 커밋 시점에 배치 UPDATE
+                for (Product product : productRepository.findWithBrandAndCategoryByIdIn(existingIds)) {
+                    product.setPrice(prices.remove(new ProductKey(product.getBrand().getId(), product.getCategory().getId())));
+                    updatedCount++;
+                }
+            }
+
+            List<Product> products = new ArrayList<>(prices.size());
+            prices.forEach((key, price) -> products.add(new Product(null,
+                    brandRepository.getReferenceById(key.brandId()),
+                    categoryRepository.getReferenceById(key.categoryId()),
+                    price)));
+            productRepository.saveAll(products);
+            return new BatchCounts(products.size(), updatedCount);
+        }
+    }
+
+    private record BatchCounts(int inserted, int updated) {
+    }
+
+    private record ProductKey(long brandId, long categoryId) {
+    }
+}
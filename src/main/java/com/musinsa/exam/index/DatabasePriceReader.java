@@ -0,0 +1,173 @@
+package com.musinsa.exam.index;
+
+import com.musinsa.exam.model.Brand;
+import com.musinsa.exam.repository.BrandRepository;
+import com.musinsa.exam.repository.CategoryRepository;
+import com.musinsa.exam.repository.ProductRepository;
+import com.musinsa.exam.repository.projection.CategoryPriceRangeView;
+import com.musinsa.exam.repository.projection.CheapestBrandPriceView;
+import com.musinsa.exam.repository.projection.ProductPriceRow;
+import com.musinsa.exam.repository.projection.RankedPriceRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 매 요청마다 데이터베이스 집계 쿼리로 가격 정보를 조회하는 구현입니다.
+ * 여러 인스턴스가 인메모리 인덱스 없이 데이터베이스를 직접 읽어야 할 때 사용합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "musinsa.pricing.source", havingValue = "database")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DatabasePriceReader implements PriceReader {
+
+    private final BrandRepository brandRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+
+    @Override
+    public boolean hasCategories() {
+        return categoryRepository.count() > 0;
+    }
+
+    @Override
+    public boolean hasBrands() {
+        return brandRepository.count() > 0;
+    }
+
+    @Override
+    public List<String> categoryNames() {
+        return categoryRepository.findAllNames();
+    }
+
+    /**
+     * 카테고리 수와 관계없이 윈도 함수 쿼리 한 번으로 조회합니다.
+     */
+    @Override
+    public List<CategoryPrice> lowestPerCategory() {
+        List<CategoryPrice> result = new ArrayList<>();
+        for (CategoryPriceRangeView row : productRepository.findAllCategoryPriceRanges()) {
+            if (row.getLowestBrand() != null) {
+                result.add(new CategoryPrice(row.getCategoryName(), row.getLowestBrand(), row.getLowestPrice()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<PriceRange> priceRange(String categoryName) {
+        return productRepository.findCategoryPriceRange(categoryName).map(DatabasePriceReader::toPriceRange);
+    }
+
+    /**
+     * 요청한 카테고리만 윈도 함수 쿼리 한 번으로 조회합니다.
+     */
+    @Override
+    public Map<String, PriceRange> priceRanges(Collection<String> categoryNames) {
+        Map<String, PriceRange> found = new HashMap<>();
+        for (CategoryPriceRangeView row : productRepository.findCategoryPriceRanges(categoryNames)) {
+            found.put(row.getCategoryName(), toPriceRange(row));
+        }
+        Map<String, PriceRange> result = new LinkedHashMap<>();
+        for (String categoryName : categoryNames) {
+            PriceRange range = found.get(categoryName);
+            if (range != null) {
+                result.put(categoryName, range);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 전체 카테고리 가격 범위 쿼리와 최저 총액 브랜드 쿼리, 두 번의 왕복으로 계산합니다.
+     */
+    @Override
+    public Dashboard dashboard() {
+        List<CategoryPriceRangeView> rows = productRepository.findAllCategoryPriceRanges();
+        List<String> names = new ArrayList<>(rows.size());
+        List<PriceRange> ranges = new ArrayList<>(rows.size());
+        for (CategoryPriceRangeView row : rows) {
+            names.add(row.getCategoryName());
+            ranges.add(toPriceRange(row));
+        }
+        return new Dashboard(names, ranges, cheapestBrand().orElse(null));
+    }
+
+    /**
+     * 모든 카테고리를 갖춘 브랜드 중 총액이 가장 낮은 브랜드와 그 브랜드의 카테고리별 가격을 쿼리 한 번으로 조회합니다.
+     * 집계 뒤 우승 브랜드의 가격만 다시 읽던 방식보다 왕복이 두 번 줄고, 총액과 가격 목록이 같은 시점의 데이터에서 나옵니다.
+     */
+    @Override
+    public Optional<BrandTotal> cheapestBrand() {
+        List<CheapestBrandPriceView> rows = productRepository.findCheapestBrandPrices();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        CheapestBrandPriceView first = rows.get(0);
+        List<CategoryPrice> prices = new ArrayList<>(rows.size());
+        for (CheapestBrandPriceView row : rows) {
+            prices.add(new CategoryPrice(row.getCategoryName(), row.getBrandName(), row.getPrice()));
+        }
+        return Optional.of(new BrandTotal(first.getBrandName(), first.getTotalPrice(), prices));
+    }
+
+    /**
+     * 키셋 조건으로 필요한 행만 읽습니다. 결과가 비었을 때만 카테고리 존재 여부를 추가로 확인합니다.
+     */
+    @Override
+    public Optional<List<RankedPrice>> ranking(String categoryName, RankingQuery query) {
+        int afterPrice = query.hasCursor() ? query.afterPrice() : Integer.MIN_VALUE;
+        long afterBrandId = query.hasCursor() ? query.afterBrandId() : Long.MIN_VALUE;
+        List<RankedPriceRow> rows = productRepository.findRanking(categoryName, query.minPrice(), query.maxPrice(),
+                afterPrice, afterBrandId, Limit.of(query.limit()));
+        if (rows.isEmpty() && !categoryRepository.existsByName(categoryName)) {
+            return Optional.empty();
+        }
+
+        List<RankedPrice> result = new ArrayList<>(rows.size());
+        for (RankedPriceRow row : rows) {
+            result.add(new RankedPrice(row.brandId(), row.brandName(), row.price()));
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * 요청마다 전체 가격을 읽어 임시 가격 행렬을 만든 뒤 인메모리 인덱스와 같은 방식으로 계산합니다.
+     */
+    @Override
+    public Optional<Outfit> cheapestOutfit(OutfitConstraints constraints) {
+        List<Brand> brands = brandRepository.findAll();
+        PriceMatrix matrix = new PriceMatrix(categoryRepository.findAll(Sort.by("id")), brands.size());
+        matrix.startBulkLoad();
+        for (Brand brand : brands) {
+            matrix.putBrand(brand.getId(), brand.getName());
+        }
+        for (ProductPriceRow row : productRepository.findAllPriceRows()) {
+            matrix.putProduct(row.brandId(), row.categoryId(), row.price());
+        }
+        matrix.finishBulkLoad();
+        return PriceIndex.toOutfit(matrix, new OutfitSolver(matrix, constraints).solve(constraints.maxBrands()));
+    }
+
+    private static PriceRange toPriceRange(CategoryPriceRangeView row) {
+        if (row.getLowestBrand() == null || row.getHighestBrand() == null) {
+            return new PriceRange(null, null);
+        }
+        return new PriceRange(
+                new CategoryPrice(row.getCategoryName(), row.getLowestBrand(), row.getLowestPrice()),
+                new CategoryPrice(row.getCategoryName(), row.getHighestBrand(), row.getHighestPrice()));
+    }
+}
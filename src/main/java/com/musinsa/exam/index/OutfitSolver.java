@@ -0,0 +1,260 @@
+package com.musinsa.exam.index;
+
+import com.musinsa.exam.exception.InvalidInputException;
+import com.musinsa.exam.exception.ResourceNotFoundException;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 가격 행렬에서 제약 조건을 만족하는 최저 총액 코디(카테고리마다 상품 하나)를 구합니다.
+ * <p>
+ * 브랜드 수 제한이나 필수 브랜드가 없으면 카테고리별 정렬 배열에서 조건에 맞는 첫 브랜드를 고르고,
+ * 있으면 카테고리 부분집합 비트마스크 DP로 풉니다.
+ * <ol>
+ *     <li>{@code single[mask]}: 한 브랜드로 mask의 카테고리를 모두 살 때의 최저가. 제외 브랜드는 건너뛰고,
+ *     브랜드마다 예산 안에서 살 수 있는 카테고리의 부분집합만 열거합니다.</li>
+ *     <li>{@code atMost[j][mask]}: 브랜드 j개 이하로 mask를 채우는 최저가.
+ *     mask의 가장 낮은 카테고리를 포함하는 부분집합만 떼어 내어 같은 분할을 중복해서 보지 않습니다.</li>
+ *     <li>필수 브랜드는 각각 비어 있지 않은 카테고리 부분집합을 맡도록 따로 배정한 뒤 나머지를 위 결과로 채웁니다.</li>
+ * </ol>
+ * 브랜드 수 B, 카테고리 수 C에 대해 O(B * 2^C + C * 3^C)이며, 호출자가 읽기 잠금을 잡은 상태에서 실행합니다.
+ */
+final class OutfitSolver {
+
+    /**
+     * DP가 다루는 최대 카테고리 수입니다. 부분집합 수(2^C)가 브랜드마다 곱해지므로 제한합니다.
+     */
+    static final int MAX_DP_CATEGORIES = 12;
+
+    /**
+     * 살 수 없는 조합의 비용입니다. 가격 합이 int 범위를 넘을 수 있으므로 비용은 long으로 다룹니다.
+     */
+    private static final long INFINITY = Long.MAX_VALUE;
+
+    private static final int NO_BUDGET = Integer.MAX_VALUE;
+
+    private final PriceMatrix matrix;
+    private final int categoryCount;
+    private final int full;
+    private final int[] budgets;
+    private final boolean[] excluded;
+    private final int[] required;
+
+    OutfitSolver(PriceMatrix matrix, PriceReader.OutfitConstraints constraints) {
+        this.matrix = matrix;
+        this.categoryCount = matrix.categoryCount();
+        this.full = (1 << categoryCount) - 1;
+
+        this.budgets = new int[categoryCount];
+        Arrays.fill(budgets, NO_BUDGET);
+        for (Map.Entry<String, Integer> budget : constraints.categoryBudgets().entrySet()) {
+            int category = matrix.categoryOrdinal(budget.getKey());
+            if (category == PriceMatrix.NONE) {
+                throw new ResourceNotFoundException("카테고리를 찾을 수 없습니다: " + budget.getKey());
+            }
+            budgets[category] = budget.getValue();
+        }
+
+        this.excluded = new boolean[matrix.ordinalLimit()];
+        this.required = new int[constraints.requiredBrands().size()];
+        int found = 0;
+        for (int brand = matrix.nextBrand(0); brand != PriceMatrix.NONE; brand = matrix.nextBrand(brand + 1)) {
+            String name = matrix.brandName(brand);
+            if (constraints.excludedBrands().contains(name)) {
+                excluded[brand] = true;
+            }
+            if (constraints.requiredBrands().contains(name)) {
+                required[found++] = brand;
+            }
+        }
+        if (found < required.length) {
+            throw new ResourceNotFoundException("브랜드를 찾을 수 없습니다: " + constraints.requiredBrands());
+        }
+        for (int brand : required) {
+            if (excluded[brand]) {
+                throw new InvalidInputException("포함 브랜드와 제외 브랜드가 겹칩니다: " + matrix.brandName(brand));
+            }
+        }
+    }
+
+    /**
+     * 카테고리 순서대로 고른 브랜드 순번을 반환합니다. 조건을 만족하는 조합이 없으면 null입니다.
+     */
+    int[] solve(Integer maxBrands) {
+        if (categoryCount == 0) {
+            return null;
+        }
+        int brandLimit = maxBrands == null ? categoryCount : Math.min(maxBrands, categoryCount);
+        if (brandLimit < required.length) {
+            throw new InvalidInputException("포함 브랜드 수가 최대 브랜드 수 또는 카테고리 수보다 많습니다: " + required.length);
+        }
+        if (brandLimit == categoryCount && required.length == 0) {
+            return cheapestPerCategory();
+        }
+        if (categoryCount > MAX_DP_CATEGORIES) {
+            throw new InvalidInputException("브랜드 수 제한이나 포함 브랜드 조건은 카테고리 " + MAX_DP_CATEGORIES + "개까지 지원합니다");
+        }
+        return solveByMask(brandLimit);
+    }
+
+    private int[] cheapestPerCategory() {
+        int[] chosen = new int[categoryCount];
+        for (int c = 0; c < categoryCount; c++) {
+            chosen[c] = PriceMatrix.NONE;
+            for (int position = 0; position < matrix.rankedCount(c); position++) {
+                int brand = matrix.rankedBrand(c, position);
+                if (matrix.price(brand, c) > budgets[c]) {
+                    return null;
+                }
+                if (!excluded[brand]) {
+                    chosen[c] = brand;
+                    break;
+                }
+            }
+            if (chosen[c] == PriceMatrix.NONE) {
+                return null;
+            }
+        }
+        return chosen;
+    }
+
+    private int[] solveByMask(int brandLimit) {
+        int masks = full + 1;
+        long[] costs = new long[masks];
+
+        long[] single = new long[masks];
+        int[] singleBrand = new int[masks];
+        Arrays.fill(single, INFINITY);
+        single[0] = 0;
+        for (int brand = matrix.nextBrand(0); brand != PriceMatrix.NONE; brand = matrix.nextBrand(brand + 1)) {
+            if (excluded[brand]) {
+                continue;
+            }
+            int available = subsetCosts(brand, costs);
+            for (int sub = available & -available; sub != 0; sub = (sub - available) & available) {
+                if (costs[sub] < single[sub]) {
+                    single[sub] = costs[sub];
+                    singleBrand[sub] = brand;
+                }
+            }
+        }
+
+        int freeBrands = brandLimit - required.length;
+        long[][] atMost = new long[freeBrands + 1][];
+        int[][] atMostSplit = new int[freeBrands + 1][];
+        atMost[0] = new long[masks];
+        Arrays.fill(atMost[0], INFINITY);
+        atMost[0][0] = 0;
+        for (int j = 1; j <= freeBrands; j++) {
+            long[] previous = atMost[j - 1];
+            long[] current = previous.clone();
+            int[] split = new int[masks];
+            for (int mask = 1; mask < masks; mask++) {
+                int lowest = mask & -mask;
+                int rest = mask ^ lowest;
+                for (int sub = rest; ; sub = (sub - 1) & rest) {
+                    int part = sub | lowest;
+                    long cost = add(single[part], previous[mask ^ part]);
+                    if (cost < current[mask]) {
+                        current[mask] = cost;
+                        split[mask] = part;
+                    }
+                    if (sub == 0) {
+                        break;
+                    }
+                }
+            }
+            atMost[j] = current;
+            atMostSplit[j] = split;
+        }
+
+        long[][] withRequired = new long[required.length + 1][];
+        int[][] requiredSplit = new int[required.length + 1][];
+        withRequired[0] = new long[masks];
+        Arrays.fill(withRequired[0], INFINITY);
+        withRequired[0][0] = 0;
+        for (int i = 1; i <= required.length; i++) {
+            subsetCosts(required[i - 1], costs);
+            long[] previous = withRequired[i - 1];
+            long[] current = new long[masks];
+            int[] split = new int[masks];
+            Arrays.fill(current, INFINITY);
+            for (int mask = 1; mask < masks; mask++) {
+                for (int sub = mask; sub != 0; sub = (sub - 1) & mask) {
+                    long cost = add(costs[sub], previous[mask ^ sub]);
+                    if (cost < current[mask]) {
+                        current[mask] = cost;
+                        split[mask] = sub;
+                    }
+                }
+            }
+            withRequired[i] = current;
+            requiredSplit[i] = split;
+        }
+
+        long[] byRequired = withRequired[required.length];
+        long[] byFree = atMost[freeBrands];
+        long best = INFINITY;
+        int bestRequiredMask = 0;
+        for (int mask = 0; mask < masks; mask++) {
+            long cost = add(byRequired[mask], byFree[full ^ mask]);
+            if (cost < best) {
+                best = cost;
+                bestRequiredMask = mask;
+            }
+        }
+        if (best == INFINITY) {
+            return null;
+        }
+
+        int[] chosen = new int[categoryCount];
+        int mask = bestRequiredMask;
+        for (int i = required.length; i > 0; i--) {
+            int part = requiredSplit[i][mask];
+            assign(chosen, part, required[i - 1]);
+            mask ^= part;
+        }
+        mask = full ^ bestRequiredMask;
+        for (int j = freeBrands; j > 0 && mask != 0; j--) {
+            if (atMost[j][mask] == atMost[j - 1][mask]) {
+                continue;
+            }
+            int part = atMostSplit[j][mask];
+            assign(chosen, part, singleBrand[part]);
+            mask ^= part;
+        }
+        return chosen;
+    }
+
+    /**
+     * 브랜드가 예산 안에서 살 수 있는 카테고리 비트마스크를 구하고, 그 부분집합마다의 가격 합을 costs에 채웁니다.
+     * 살 수 없는 카테고리가 섞인 부분집합은 INFINITY입니다.
+     */
+    private int subsetCosts(int brand, long[] costs) {
+        int available = 0;
+        for (int c = 0; c < categoryCount; c++) {
+            int price = matrix.price(brand, c);
+            if (price > 0 && price <= budgets[c]) {
+                available |= 1 << c;
+            }
+        }
+        Arrays.fill(costs, INFINITY);
+        costs[0] = 0;
+        for (int sub = available & -available; sub != 0; sub = (sub - available) & available) {
+            int lowest = sub & -sub;
+            costs[sub] = add(costs[sub ^ lowest], matrix.price(brand, Integer.numberOfTrailingZeros(lowest)));
+        }
+        return available;
+    }
+
+    private static void assign(int[] chosen, int mask, int brand) {
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            chosen[Integer.numberOfTrailingZeros(bits)] = brand;
+        }
+    }
+
+    private static long add(long a, long b) {
+        return a == INFINITY || b == INFINITY ? INFINITY : a + b;
+    }
+}
@@ -0,0 +1,378 @@
+package com.musinsa.exam.index;
+
+import com.musinsa.exam.event.CatalogChangedEvent;
+import com.musinsa.exam.model.Brand;
+import com.musinsa.exam.model.Category;
+import com.musinsa.exam.replica.PrimaryPin;
+import com.musinsa.exam.repository.BrandRepository;
+import com.musinsa.exam.repository.CategoryRepository;
+import com.musinsa.exam.repository.ProductRepository;
+import com.musinsa.exam.repository.projection.ProductPriceRow;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 브랜드 x 카테고리 가격 행렬({@link PriceMatrix})을 메모리에 유지하는 인덱스입니다.
+ * 시작 시 한 번 전체 상품을 적재하고, 이후에는 변경 이벤트로 제자리 갱신하여
+ * 조회 API가 SQL 없이 응답할 수 있도록 합니다.
+ */
+@Slf4j
+@Component
+@DependsOnDatabaseInitialization
+@ConditionalOnProperty(name = "musinsa.pricing.source", havingValue = "index", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PriceIndex implements PriceReader {
+
+    private final BrandRepository brandRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /**
+     * 전체 적재를 한 번에 하나씩만 실행합니다. 조회와 변경 이벤트 반영은 막지 않습니다.
+     */
+    private final Lock reloadLock = new ReentrantLock();
+    private PriceMatrix matrix = new PriceMatrix(List.of(), 0);
+    /**
+     * 전체 적재 중에 기존 행렬에 반영한 변경입니다. 적재하지 않는 동안에는 {@code null}이며 쓰기 잠금으로 보호합니다.
+     */
+    private List<Consumer<PriceMatrix>> pendingChanges;
+
+    /**
+     * 전체 데이터를 새 행렬에 적재한 뒤 교체합니다. 적재하는 동안에는 기존 행렬로 조회합니다.
+     * 대량 적재 커밋 직후에도 호출되므로 복제본을 쓰는 구성에서도 primary에서 읽습니다.
+     * <p>
+     * 데이터베이스를 읽기 전부터 교체할 때까지 기존 행렬에 반영된 변경 이벤트를 모아 두었다가 새 행렬에 같은 순서로 다시 반영합니다.
+     * 읽은 데이터에 이미 포함된 변경이 다시 반영되더라도 같은 값을 덮어쓸 뿐이므로, 적재 중 들어온 변경은 잃지 않습니다.
+     */
+    @PostConstruct
+    public void reload() {
+        reloadLock.lock();
+        try {
+            withWriteLock(() -> pendingChanges = new ArrayList<>());
+
+            List<Category> categoryRows;
+            List<Brand> brandRows;
+            List<ProductPriceRow> productRows;
+            try (PrimaryPin.Scope ignored = PrimaryPin.pin()) {
+                categoryRows = categoryRepository.findAll(Sort.by("id"));
+                brandRows = brandRepository.findAll();
+                productRows = productRepository.findAllPriceRows();
+            }
+
+            PriceMatrix loaded = new PriceMatrix(categoryRows, brandRows.size());
+            loaded.startBulkLoad();
+            for (Brand brand : brandRows) {
+                loaded.putBrand(brand.getId(), brand.getName());
+            }
+            for (ProductPriceRow row : productRows) {
+                putProduct(loaded, row.brandId(), row.categoryId(), row.price());
+            }
+            loaded.finishBulkLoad();
+
+            int replayed;
+            lock.writeLock().lock();
+            try {
+                for (Consumer<PriceMatrix> change : pendingChanges) {
+                    change.accept(loaded);
+                }
+                replayed = pendingChanges.size();
+                matrix = loaded;
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Price index loaded: {} categories, {} brands ({} missing a category), {} products, {} changes replayed",
+                    categoryRows.size(), brandRows.size(), loaded.incompleteBrandCount(), productRows.size(), replayed);
+        } finally {
+            // 적재에 실패했다면 기존 행렬을 계속 쓰므로 모아 둔 변경만 버림
+            withWriteLock(() -> pendingChanges = null);
+            reloadLock.unlock();
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        switch (event.getType()) {
+            case BRAND_SAVED -> putBrand(event.getBrandId(), event.getBrandName());
+            case BRAND_DELETED -> removeBrand(event.getBrandId());
+            case PRODUCTS_CHANGED -> applyProductChanges(event.getProducts());
+            case CATALOG_RELOADED -> reload();
+        }
+    }
+
+    public void putBrand(long brandId, String name) {
+        apply(target -> target.putBrand(brandId, name));
+    }
+
+    public void removeBrand(long brandId) {
+        apply(target -> target.removeBrand(brandId));
+    }
+
+    public void putProduct(long brandId, long categoryId, int price) {
+        apply(target -> putProduct(target, brandId, categoryId, price));
+    }
+
+    public void removeProduct(long brandId, long categoryId) {
+        apply(target -> target.removeProduct(brandId, categoryId));
+    }
+
+    /**
+     * 여러 상품 변경을 한 번의 쓰기 잠금으로 반영합니다.
+     */
+    public void applyProductChanges(List<CatalogChangedEvent.ProductChange> changes) {
+        apply(target -> {
+            for (CatalogChangedEvent.ProductChange change : changes) {
+                if (change.price() == null) {
+                    target.removeProduct(change.brandId(), change.categoryId());
+                } else {
+                    putProduct(target, change.brandId(), change.categoryId(), change.price());
+                }
+            }
+        });
+    }
+
+    /**
+     * 변경을 현재 행렬에 반영하고, 전체 적재 중이면 새 행렬에 다시 반영할 수 있도록 모아 둡니다.
+     */
+    private void apply(Consumer<PriceMatrix> change) {
+        withWriteLock(() -> {
+            change.accept(matrix);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        });
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean hasCategories() {
+        lock.readLock().lock();
+        try {
+            return matrix.categoryCount() > 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean hasBrands() {
+        lock.readLock().lock();
+        try {
+            return matrix.brandCount() > 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<String> categoryNames() {
+        lock.readLock().lock();
+        try {
+            List<String> names = new ArrayList<>(matrix.categoryCount());
+            for (int c = 0; c < matrix.categoryCount(); c++) {
+                names.add(matrix.categoryName(c));
+            }
+            return names;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<CategoryPrice> lowestPerCategory() {
+        lock.readLock().lock();
+        try {
+            List<CategoryPrice> result = new ArrayList<>(matrix.categoryCount());
+            for (int c = 0; c < matrix.categoryCount(); c++) {
+                int brand = matrix.lowestBrand(c);
+                if (brand != PriceMatrix.NONE) {
+                    result.add(toCategoryPrice(brand, c));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<PriceRange> priceRange(String categoryName) {
+        lock.readLock().lock();
+        try {
+            int category = matrix.categoryOrdinal(categoryName);
+            if (category == PriceMatrix.NONE) {
+                return Optional.empty();
+            }
+            return Optional.of(toPriceRange(category));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<String, PriceRange> priceRanges(Collection<String> categoryNames) {
+        lock.readLock().lock();
+        try {
+            Map<String, PriceRange> result = new LinkedHashMap<>();
+            for (String categoryName : categoryNames) {
+                int category = matrix.categoryOrdinal(categoryName);
+                if (category != PriceMatrix.NONE) {
+                    result.put(categoryName, toPriceRange(category));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 읽기 잠금 한 번으로 같은 행렬 상태에서 모든 값을 읽으므로, 화면의 각 영역이 서로 다른 시점을 보여 주지 않습니다.
+     */
+    @Override
+    public Dashboard dashboard() {
+        lock.readLock().lock();
+        try {
+            List<String> names = new ArrayList<>(matrix.categoryCount());
+            List<PriceRange> ranges = new ArrayList<>(matrix.categoryCount());
+            for (int c = 0; c < matrix.categoryCount(); c++) {
+                names.add(matrix.categoryName(c));
+                ranges.add(toPriceRange(c));
+            }
+            int brand = matrix.cheapestBrand();
+            return new Dashboard(names, ranges, brand == PriceMatrix.NONE ? null : toBrandTotal(brand));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<BrandTotal> cheapestBrand() {
+        lock.readLock().lock();
+        try {
+            int brand = matrix.cheapestBrand();
+            return brand == PriceMatrix.NONE ? Optional.empty() : Optional.of(toBrandTotal(brand));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 정렬 배열에서 시작 위치를 이진 탐색으로 찾고 k개를 순서대로 읽습니다(O(log n + k)).
+     */
+    @Override
+    public Optional<List<RankedPrice>> ranking(String categoryName, RankingQuery query) {
+        lock.readLock().lock();
+        try {
+            int category = matrix.categoryOrdinal(categoryName);
+            if (category == PriceMatrix.NONE) {
+                return Optional.empty();
+            }
+
+            int position = matrix.rankedPosition(category, query.minPrice(), Long.MIN_VALUE);
+            if (query.hasCursor()) {
+                position = Math.max(position,
+                        matrix.rankedPositionAfter(category, query.afterPrice(), query.afterBrandId()));
+            }
+            List<RankedPrice> result = new ArrayList<>(Math.min(query.limit(), matrix.rankedCount(category)));
+            for (; position < matrix.rankedCount(category) && result.size() < query.limit(); position++) {
+                int brand = matrix.rankedBrand(category, position);
+                int price = matrix.price(brand, category);
+                if (price > query.maxPrice()) {
+                    break;
+                }
+                result.add(new RankedPrice(matrix.brandId(brand), matrix.brandName(brand), price));
+            }
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Outfit> cheapestOutfit(OutfitConstraints constraints) {
+        lock.readLock().lock();
+        try {
+            return toOutfit(matrix, new OutfitSolver(matrix, constraints).solve(constraints.maxBrands()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static Optional<Outfit> toOutfit(PriceMatrix matrix, int[] chosen) {
+        if (chosen == null) {
+            return Optional.empty();
+        }
+        List<CategoryPrice> prices = new ArrayList<>(chosen.length);
+        Set<Integer> brands = new HashSet<>();
+        long totalPrice = 0;
+        for (int c = 0; c < chosen.length; c++) {
+            int price = matrix.price(chosen[c], c);
+            prices.add(new CategoryPrice(matrix.categoryName(c), matrix.brandName(chosen[c]), price));
+            brands.add(chosen[c]);
+            totalPrice += price;
+        }
+        return Optional.of(new Outfit(totalPrice, brands.size(), prices));
+    }
+
+    private static void putProduct(PriceMatrix target, long brandId, long categoryId, int price) {
+        if (!target.putProduct(brandId, categoryId, price)) {
+            log.warn("Skipping product of brand {} and category {} with price {}: unknown brand or category, or non-positive price",
+                    brandId, categoryId, price);
+        }
+    }
+
+    private PriceRange toPriceRange(int category) {
+        int lowest = matrix.lowestBrand(category);
+        if (lowest == PriceMatrix.NONE) {
+            return new PriceRange(null, null);
+        }
+        return new PriceRange(toCategoryPrice(lowest, category), toCategoryPrice(matrix.highestBrand(category), category));
+    }
+
+    private BrandTotal toBrandTotal(int brand) {
+        List<CategoryPrice> prices = new ArrayList<>(matrix.categoryCount());
+        for (int c = 0; c < matrix.categoryCount(); c++) {
+            if (matrix.price(brand, c) > 0) {
+                prices.add(toCategoryPrice(brand, c));
+            }
+        }
+        return new BrandTotal(matrix.brandName(brand), matrix.total(brand), prices);
+    }
+
+    private CategoryPrice toCategoryPrice(int brand, int category) {
+        return new CategoryPrice(matrix.categoryName(category), matrix.brandName(brand), matrix.price(brand, category));
+    }
+}
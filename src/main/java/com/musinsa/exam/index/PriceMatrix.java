@@ -0,0 +1,477 @@
+package com.musinsa.exam.index;
+
+import com.musinsa.exam.model.Category;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 브랜드 x 카테고리 가격을 {@code int[]} 하나에 담는 행렬입니다.
+ * 브랜드와 카테고리는 사전 인코딩된 순번(ordinal)으로 접근하며, 가격 {@code 0}은 상품이 없음을 뜻합니다.
+ * 상품 가격은 항상 양수이므로(API와 적재에서 검증하고 {@link #putProduct}에서도 거부) 실제 가격과 겹치지 않습니다.
+ * <p>
+ * 카테고리별 (가격, 브랜드 id) 순으로 정렬된 브랜드 순번 배열, 브랜드별 총액, 카테고리가 빠진 브랜드 비트셋,
+ * 모든 카테고리를 갖춘 브랜드 중 최저 총액 브랜드를 쓰기 시점에 갱신하므로 조회는 배열 접근과 이진 탐색만으로 끝나고,
+ * 계산 과정에서 객체를 할당하지 않습니다.
+ * 동기화하지 않으므로 호출자({@link PriceIndex})가 잠금을 책임집니다.
+ */
+final class PriceMatrix {
+
+    static final int NONE = -1;
+
+    private static final int MISSING = 0;
+
+    private final int categoryCount;
+    private final String[] categoryNames;
+    private final Map<Long, Integer> categoryOrdinals = new HashMap<>();
+    private final Map<String, Integer> categoryOrdinalsByName = new HashMap<>();
+    /**
+     * 카테고리별로 상품이 있는 브랜드 순번을 (가격, 브랜드 id) 오름차순으로 담습니다.
+     */
+    private final int[][] rankedBrands;
+    private final int[] rankedCounts;
+    private boolean ranked = true;
+
+    private final Map<Long, Integer> brandOrdinals = new HashMap<>();
+    private int brandCapacity;
+    private int brandLimit;
+    private int[] freeOrdinals = new int[8];
+    private int freeCount;
+
+    /**
+     * 브랜드 순번 x 카테고리 순번 위치에 가격을 저장합니다.
+     */
+    private int[] prices;
+    private long[] brandIds;
+    private String[] brandNames;
+    /**
+     * 브랜드별 가격 합계입니다. 가격 하나는 int 범위지만 여러 카테고리의 합은 넘칠 수 있어 long으로 둡니다.
+     */
+    private long[] totals;
+    private int[] coveredCounts;
+    private long[] liveBrands;
+    /**
+     * 카테고리를 하나라도 갖추지 못한 브랜드의 비트셋입니다. 상품 쓰기 때 브랜드별 보유 카테고리 수로 갱신합니다.
+     */
+    private long[] incompleteBrands;
+    /**
+     * 모든 카테고리를 갖춘 브랜드 중 총액이 가장 낮은 브랜드입니다.
+     */
+    private int cheapestBrand = NONE;
+
+    PriceMatrix(List<Category> categories, int expectedBrands) {
+        this.categoryCount = categories.size();
+        this.categoryNames = new String[categoryCount];
+        for (int c = 0; c < categoryCount; c++) {
+            Category category = categories.get(c);
+            categoryNames[c] = category.getName();
+            categoryOrdinals.put(category.getId(), c);
+            categoryOrdinalsByName.put(category.getName(), c);
+        }
+        this.rankedCounts = new int[categoryCount];
+        this.rankedBrands = new int[categoryCount][];
+        int capacity = Math.max(expectedBrands, 16);
+        for (int c = 0; c < categoryCount; c++) {
+            rankedBrands[c] = new int[capacity];
+        }
+        allocate(capacity);
+    }
+
+    int categoryCount() {
+        return categoryCount;
+    }
+
+    String categoryName(int category) {
+        return categoryNames[category];
+    }
+
+    int categoryOrdinal(String name) {
+        Integer category = categoryOrdinalsByName.get(name);
+        return category == null ? NONE : category;
+    }
+
+    int brandCount() {
+        return brandOrdinals.size();
+    }
+
+    String brandName(int brand) {
+        return brandNames[brand];
+    }
+
+    long brandId(int brand) {
+        return brandIds[brand];
+    }
+
+    /**
+     * 지금까지 발급한 브랜드 순번의 상한입니다. 순번별 배열의 크기로 사용합니다.
+     */
+    int ordinalLimit() {
+        return brandLimit;
+    }
+
+    /**
+     * {@code from} 이상인 살아 있는 브랜드 순번을 반환합니다. 없으면 {@link #NONE}입니다.
+     */
+    int nextBrand(int from) {
+        return nextBit(liveBrands, from);
+    }
+
+    long total(int brand) {
+        return totals[brand];
+    }
+
+    /**
+     * 가격을 반환합니다. 상품이 없으면 {@code 0}입니다.
+     */
+    int price(int brand, int category) {
+        return prices[brand * categoryCount + category];
+    }
+
+    int lowestBrand(int category) {
+        return rankedCounts[category] == 0 ? NONE : rankedBrands[category][0];
+    }
+
+    /**
+     * 최고가 브랜드를 반환합니다. 최고가가 같은 브랜드가 여럿이면 브랜드 id가 가장 작은 브랜드입니다.
+     */
+    int highestBrand(int category) {
+        int count = rankedCounts[category];
+        if (count == 0) {
+            return NONE;
+        }
+        int highestPrice = price(rankedBrands[category][count - 1], category);
+        return rankedBrands[category][rankedPosition(category, highestPrice, Long.MIN_VALUE)];
+    }
+
+    int rankedCount(int category) {
+        return rankedCounts[category];
+    }
+
+    int rankedBrand(int category, int position) {
+        return rankedBrands[category][position];
+    }
+
+    /**
+     * (가격, 브랜드 id) 순서에서 주어진 값보다 작지 않은 첫 위치를 이진 탐색으로 찾습니다.
+     */
+    int rankedPosition(int category, int price, long brandId) {
+        return rankedPosition(category, price, brandId, false);
+    }
+
+    /**
+     * (가격, 브랜드 id) 순서에서 주어진 값보다 큰 첫 위치입니다. 순위 조회 커서 바로 다음 위치를 찾을 때 쓰며,
+     * 브랜드 id에 1을 더하지 않으므로 {@code Long.MAX_VALUE} 커서에서도 넘치지 않습니다.
+     */
+    int rankedPositionAfter(int category, int price, long brandId) {
+        return rankedPosition(category, price, brandId, true);
+    }
+
+    private int rankedPosition(int category, int price, long brandId, boolean after) {
+        int[] brands = rankedBrands[category];
+        int low = 0;
+        int high = rankedCounts[category];
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int brand = brands[mid];
+            int midPrice = price(brand, category);
+            if (midPrice < price || (midPrice == price
+                    && (after ? brandIds[brand] <= brandId : brandIds[brand] < brandId))) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    int cheapestBrand() {
+        return cheapestBrand;
+    }
+
+    /**
+     * 브랜드가 모든 카테고리에 상품을 가지고 있는지 비트 하나로 확인합니다.
+     */
+    boolean isComplete(int brand) {
+        return (incompleteBrands[brand >>> 6] & (1L << brand)) == 0;
+    }
+
+    /**
+     * 카테고리를 하나라도 갖추지 못한 브랜드 수를 비트셋에서 셉니다.
+     */
+    int incompleteBrandCount() {
+        int count = 0;
+        for (long word : incompleteBrands) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    void putBrand(long brandId, String name) {
+        Integer existing = brandOrdinals.get(brandId);
+        if (existing != null) {
+            brandNames[existing] = name;
+            return;
+        }
+
+        int brand = freeCount > 0 ? freeOrdinals[--freeCount] : nextOrdinal();
+        brandOrdinals.put(brandId, brand);
+        brandIds[brand] = brandId;
+        brandNames[brand] = name;
+        setBit(liveBrands, brand);
+        if (categoryCount > 0) {
+            setBit(incompleteBrands, brand);
+        } else if (cheapestBrand == NONE || cheaperThan(brand, cheapestBrand)) {
+            cheapestBrand = brand;
+        }
+    }
+
+    void removeBrand(long brandId) {
+        Integer removed = brandOrdinals.remove(brandId);
+        if (removed == null) {
+            return;
+        }
+
+        int brand = removed;
+        int row = brand * categoryCount;
+        for (int c = 0; c < categoryCount; c++) {
+            if (prices[row + c] != MISSING) {
+                if (ranked) {
+                    removeRanked(c, brand);
+                }
+                prices[row + c] = MISSING;
+            }
+        }
+        totals[brand] = 0;
+        coveredCounts[brand] = 0;
+        brandNames[brand] = null;
+        clearBit(liveBrands, brand);
+        clearBit(incompleteBrands, brand);
+        releaseOrdinal(brand);
+        if (cheapestBrand == brand) {
+            rescanCheapestBrand();
+        }
+    }
+
+    /**
+     * 가격을 추가하거나 바꿉니다. 알 수 없는 브랜드나 카테고리이거나 가격이 양수가 아니면 {@code false}를 반환합니다.
+     */
+    boolean putProduct(long brandId, long categoryId, int price) {
+        if (price <= MISSING) {
+            return false;
+        }
+        Integer brandOrdinal = brandOrdinals.get(brandId);
+        Integer categoryOrdinal = categoryOrdinals.get(categoryId);
+        if (brandOrdinal == null || categoryOrdinal == null) {
+            return false;
+        }
+
+        int brand = brandOrdinal;
+        int category = categoryOrdinal;
+        int index = brand * categoryCount + category;
+        int previous = prices[index];
+        if (previous == price) {
+            return true;
+        }
+
+        if (ranked && previous != MISSING) {
+            removeRanked(category, brand);
+        }
+        prices[index] = price;
+        if (ranked) {
+            insertRanked(category, brand);
+        }
+        totals[brand] += (long) price - previous;
+        if (previous == MISSING && ++coveredCounts[brand] == categoryCount) {
+            clearBit(incompleteBrands, brand);
+        }
+
+        if (!isComplete(brand)) {
+            return true;
+        }
+        if (cheapestBrand == NONE || cheaperThan(brand, cheapestBrand)) {
+            cheapestBrand = brand;
+        } else if (cheapestBrand == brand && price > previous) {
+            rescanCheapestBrand();
+        }
+        return true;
+    }
+
+    void removeProduct(long brandId, long categoryId) {
+        Integer brandOrdinal = brandOrdinals.get(brandId);
+        Integer categoryOrdinal = categoryOrdinals.get(categoryId);
+        if (brandOrdinal == null || categoryOrdinal == null) {
+            return;
+        }
+
+        int brand = brandOrdinal;
+        int category = categoryOrdinal;
+        int index = brand * categoryCount + category;
+        int previous = prices[index];
+        if (previous == MISSING) {
+            return;
+        }
+
+        if (ranked) {
+            removeRanked(category, brand);
+        }
+        prices[index] = MISSING;
+        totals[brand] -= previous;
+        coveredCounts[brand]--;
+        setBit(incompleteBrands, brand);
+        if (cheapestBrand == brand) {
+            rescanCheapestBrand();
+        }
+    }
+
+    /**
+     * 대량 적재를 시작합니다. {@link #finishBulkLoad()}까지는 카테고리별 정렬 배열을 갱신하지 않습니다.
+     */
+    void startBulkLoad() {
+        ranked = false;
+    }
+
+    /**
+     * 카테고리마다 (가격, 브랜드 id 순위)를 long 하나로 묶어 정렬해 정렬 배열을 한 번에 만듭니다.
+     */
+    void finishBulkLoad() {
+        long[] sortedIds = new long[brandOrdinals.size()];
+        int live = 0;
+        for (int brand = nextBit(liveBrands, 0); brand != NONE; brand = nextBit(liveBrands, brand + 1)) {
+            sortedIds[live++] = brandIds[brand];
+        }
+        Arrays.sort(sortedIds);
+        int[] brandsByIdRank = new int[live];
+        int[] idRanks = new int[brandLimit];
+        for (int brand = nextBit(liveBrands, 0); brand != NONE; brand = nextBit(liveBrands, brand + 1)) {
+            int rank = Arrays.binarySearch(sortedIds, brandIds[brand]);
+            idRanks[brand] = rank;
+            brandsByIdRank[rank] = brand;
+        }
+
+        long[] keys = new long[live];
+        for (int c = 0; c < categoryCount; c++) {
+            int count = 0;
+            for (int brand = 0, index = c; brand < brandLimit; brand++, index += categoryCount) {
+                if (prices[index] != MISSING) {
+                    keys[count++] = ((long) prices[index] << 32) | idRanks[brand];
+                }
+            }
+            Arrays.sort(keys, 0, count);
+            if (rankedBrands[c].length < count) {
+                rankedBrands[c] = new int[count];
+            }
+            for (int i = 0; i < count; i++) {
+                rankedBrands[c][i] = brandsByIdRank[(int) keys[i]];
+            }
+            rankedCounts[c] = count;
+        }
+        ranked = true;
+    }
+
+    private void insertRanked(int category, int brand) {
+        int count = rankedCounts[category];
+        int[] brands = rankedBrands[category];
+        if (count == brands.length) {
+            brands = Arrays.copyOf(brands, count + (count >> 1) + 1);
+            rankedBrands[category] = brands;
+        }
+        int position = rankedPosition(category, price(brand, category), brandIds[brand]);
+        System.arraycopy(brands, position, brands, position + 1, count - position);
+        brands[position] = brand;
+        rankedCounts[category] = count + 1;
+    }
+
+    private void removeRanked(int category, int brand) {
+        int position = rankedPosition(category, price(brand, category), brandIds[brand]);
+        int[] brands = rankedBrands[category];
+        System.arraycopy(brands, position + 1, brands, position, rankedCounts[category] - position - 1);
+        rankedCounts[category]--;
+    }
+
+    /**
+     * 모든 카테고리를 갖춘 브랜드만 훑습니다. 살아 있는 브랜드 비트셋에서 누락 비트셋을 워드 단위로 빼서 후보를 고릅니다.
+     */
+    private void rescanCheapestBrand() {
+        int cheapest = NONE;
+        for (int word = 0; word < liveBrands.length; word++) {
+            for (long bits = liveBrands[word] & ~incompleteBrands[word]; bits != 0; bits &= bits - 1) {
+                int brand = (word << 6) + Long.numberOfTrailingZeros(bits);
+                if (cheapest == NONE || cheaperThan(brand, cheapest)) {
+                    cheapest = brand;
+                }
+            }
+        }
+        cheapestBrand = cheapest;
+    }
+
+    private boolean cheaperThan(int brand, int other) {
+        return totals[brand] < totals[other] || (totals[brand] == totals[other] && brandIds[brand] < brandIds[other]);
+    }
+
+    private int nextOrdinal() {
+        if (brandLimit == brandCapacity) {
+            grow(brandCapacity + (brandCapacity >> 1));
+        }
+        return brandLimit++;
+    }
+
+    private void releaseOrdinal(int brand) {
+        if (freeCount == freeOrdinals.length) {
+            freeOrdinals = Arrays.copyOf(freeOrdinals, freeCount * 2);
+        }
+        freeOrdinals[freeCount++] = brand;
+    }
+
+    private void allocate(int capacity) {
+        brandCapacity = capacity;
+        prices = new int[capacity * categoryCount];
+        brandIds = new long[capacity];
+        brandNames = new String[capacity];
+        totals = new long[capacity];
+        coveredCounts = new int[capacity];
+        liveBrands = new long[words(capacity)];
+        incompleteBrands = new long[words(capacity)];
+    }
+
+    private void grow(int capacity) {
+        brandCapacity = capacity;
+        prices = Arrays.copyOf(prices, capacity * categoryCount);
+        brandIds = Arrays.copyOf(brandIds, capacity);
+        brandNames = Arrays.copyOf(brandNames, capacity);
+        totals = Arrays.copyOf(totals, capacity);
+        coveredCounts = Arrays.copyOf(coveredCounts, capacity);
+        liveBrands = Arrays.copyOf(liveBrands, words(capacity));
+        incompleteBrands = Arrays.copyOf(incompleteBrands, words(capacity));
+    }
+
+    private static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private static void setBit(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private static void clearBit(long[] bits, int index) {
+        bits[index >>> 6] &= ~(1L << index);
+    }
+
+    private static int nextBit(long[] bits, int from) {
+        int word = from >>> 6;
+        if (word >= bits.length) {
+            return NONE;
+        }
+        long current = bits[word] & (-1L << from);
+        while (true) {
+            if (current != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(current);
+            }
+            if (++word == bits.length) {
+                return NONE;
+            }
+            current = bits[word];
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.musinsa.exam.index;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 가격 조회 API가 사용하는 읽기 전용 조회 계층입니다.
+ * 인메모리 인덱스({@link PriceIndex}) 또는 데이터베이스 집계 쿼리({@link DatabasePriceReader})로 구현되며,
+ * {@code musinsa.pricing.source} 설정으로 선택합니다.
+ */
+public interface PriceReader {
+
+    record CategoryPrice(String category, String brand, int price) {
+    }
+
+    record PriceRange(CategoryPrice lowest, CategoryPrice highest) {
+    }
+
+    record BrandTotal(String brand, long totalPrice, List<CategoryPrice> prices) {
+    }
+
+    record RankedPrice(long brandId, String brand, int price) {
+    }
+
+    /**
+     * 가격 순위 조회 조건입니다. {@code afterPrice}/{@code afterBrandId}가 있으면
+     * (가격, 브랜드 id) 순서에서 그 다음 항목부터 반환합니다(키셋 페이지네이션).
+     */
+    record RankingQuery(int minPrice, int maxPrice, Integer afterPrice, Long afterBrandId, int limit) {
+
+        public boolean hasCursor() {
+            return afterPrice != null && afterBrandId != null;
+        }
+    }
+
+    /**
+     * 코디 조건입니다. {@code maxBrands}가 null이면 브랜드 수를 제한하지 않고,
+     * {@code requiredBrands}의 브랜드는 각각 한 카테고리 이상에 쓰여야 합니다.
+     */
+    record OutfitConstraints(Integer maxBrands, Set<String> excludedBrands, Set<String> requiredBrands,
+                             Map<String, Integer> categoryBudgets) {
+    }
+
+    record Outfit(long totalPrice, int brandCount, List<CategoryPrice> prices) {
+    }
+
+    /**
+     * 대시보드 화면 전체를 그리는 데 필요한 값입니다. {@code ranges}는 {@code categoryNames}와 같은 순서이며,
+     * 모든 카테고리를 갖춘 브랜드가 없으면 {@code cheapestBrand}는 null입니다.
+     */
+    record Dashboard(List<String> categoryNames, List<PriceRange> ranges, BrandTotal cheapestBrand) {
+    }
+
+    boolean hasCategories();
+
+    boolean hasBrands();
+
+    List<String> categoryNames();
+
+    /**
+     * 상품이 있는 카테고리마다 최저가 브랜드를 카테고리 순서대로 반환합니다.
+     */
+    List<CategoryPrice> lowestPerCategory();
+
+    /**
+     * 카테고리의 최저/최고가를 반환합니다. 카테고리가 없으면 empty,
+     * 카테고리에 상품이 없으면 lowest/highest가 null인 범위를 반환합니다.
+     */
+    Optional<PriceRange> priceRange(String categoryName);
+
+    /**
+     * 여러 카테고리의 최저/최고가를 요청 순서대로 한 번에 반환합니다. 없는 카테고리는 결과에 포함하지 않습니다.
+     */
+    Map<String, PriceRange> priceRanges(Collection<String> categoryNames);
+
+    /**
+     * 카테고리 목록, 카테고리별 최저/최고가, 최저 총액 브랜드를 한 번에 계산합니다.
+     * 카테고리별 최저가는 각 범위의 lowest와 같습니다.
+     */
+    Dashboard dashboard();
+
+    /**
+     * 모든 카테고리에 상품이 있는 브랜드 중 총액이 가장 낮은 브랜드를 반환합니다.
+     * 카테고리가 하나라도 빠진 브랜드는 총액과 관계없이 후보가 아닙니다.
+     */
+    Optional<BrandTotal> cheapestBrand();
+
+    /**
+     * 카테고리에서 가격 범위에 드는 브랜드를 (가격, 브랜드 id) 오름차순으로 최대 {@code limit}개 반환합니다.
+     * 카테고리가 없으면 empty를 반환합니다.
+     */
+    Optional<List<RankedPrice>> ranking(String categoryName, RankingQuery query);
+
+    /**
+     * 조건을 만족하면서 모든 카테고리를 한 상품씩 사는 최저 총액 조합을 반환합니다. 조합이 없으면 empty입니다.
+     */
+    Optional<Outfit> cheapestOutfit(OutfitConstraints constraints);
+}
@@ -0,0 +1,46 @@
+package com.musinsa.exam.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate가 실행하는 SQL 문장 수를 전체 카운터와 현재 스레드(요청) 단위로 셉니다.
+ * 요청 단위 집계는 {@link SqlStatementMetricsFilter}가 시작/종료합니다.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<int[]> currentCount = new ThreadLocal<>();
+    private final Counter statements;
+
+    public SqlStatementCounter(MeterRegistry meterRegistry) {
+        this.statements = Counter.builder("musinsa.sql.statements")
+                .description("Hibernate가 실행한 SQL 문장 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        statements.increment();
+        int[] count = currentCount.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public void start() {
+        currentCount.set(new int[1]);
+    }
+
+    /**
+     * 현재 스레드의 집계를 끝내고 {@link #start()} 이후 실행된 문장 수를 반환합니다.
+     */
+    public int stop() {
+        int[] count = currentCount.get();
+        currentCount.remove();
+        return count == null ? 0 : count[0];
+    }
+}
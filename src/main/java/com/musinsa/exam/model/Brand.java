@@ -2,17 +2,31 @@ package com.musinsa.exam.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "BRAND")
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class Brand {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "brand_seq")
+    @SequenceGenerator(name = "brand_seq", sequenceName = "BRAND_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
     private String name;
-}
\ No newline at end of file
+
+    /**
+     * 낙관적 잠금 버전입니다. SQL로 직접 넣은 행도 0부터 시작하도록 기본값을 둡니다.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    public Brand(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+}
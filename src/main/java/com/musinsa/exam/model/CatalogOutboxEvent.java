@@ -0,0 +1,27 @@
+package com.musinsa.exam.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 카탈로그 변경 이벤트를 변경과 같은 트랜잭션에 기록한 행입니다.
+ * version은 커밋 순서대로 1씩 증가하며 빈 번호가 없습니다.
+ */
+@Entity
+@Table(name = "CATALOG_OUTBOX")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogOutboxEvent {
+    @Id
+    private Long version;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,21 @@
+package com.musinsa.exam.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 마지막으로 발급한 아웃박스 버전을 담는 단일 행입니다.
+ * 쓰기 트랜잭션은 이 행을 잠근 채 버전을 올리므로 버전 순서와 커밋 순서가 같습니다.
+ */
+@Entity
+@Table(name = "CATALOG_OUTBOX_HEAD")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogOutboxHead {
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long version;
+}
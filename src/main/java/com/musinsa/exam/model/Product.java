@@ -2,17 +2,23 @@ package com.musinsa.exam.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "PRODUCT", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"brand_id", "category_id"})
-})
+@Table(name = "PRODUCT",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"brand_id", "category_id"})
+        },
+        indexes = {
+                @Index(name = "idx_product_category_price_brand", columnList = "category_id, price, brand_id"),
+                @Index(name = "idx_product_brand_price", columnList = "brand_id, price")
+        })
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class Product {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "PRODUCT_SEQ", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -25,4 +31,19 @@ public class Product {
 
     @Column(nullable = false)
     private Integer price;
+
+    /**
+     * 낙관적 잠금 버전입니다. SQL로 직접 넣은 행도 0부터 시작하도록 기본값을 둡니다.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    public Product(Long id, Brand brand, Category category, Integer price) {
+        this.id = id;
+        this.brand = brand;
+        this.category = category;
+        this.price = price;
+    }
 }
\ No newline at end of file
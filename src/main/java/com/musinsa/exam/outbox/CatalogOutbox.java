@@ -0,0 +1,94 @@
+package com.musinsa.exam.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.exam.event.CatalogChangedEvent;
+import com.musinsa.exam.model.CatalogOutboxEvent;
+import com.musinsa.exam.model.CatalogOutboxHead;
+import com.musinsa.exam.repository.CatalogOutboxHeadRepository;
+import com.musinsa.exam.repository.CatalogOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 트랜잭션 안에서 발행된 카탈로그 변경 이벤트를 커밋 직전에 같은 트랜잭션으로 아웃박스 테이블에 기록합니다.
+ * 기록이 실패하면 변경도 롤백되므로 커밋된 변경은 모두 아웃박스에 남습니다.
+ * <p>
+ * 트랜잭션 밖에서 발행된 이벤트(다른 노드의 변경을 {@link CatalogOutboxPoller}가 다시 발행한 것)는 기록하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "musinsa.outbox.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CatalogOutbox {
+
+    static final int HEAD_ID = 1;
+
+    private final CatalogOutboxRepository outboxRepository;
+    private final CatalogOutboxHeadRepository headRepository;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void createHead() {
+        if (headRepository.existsById(HEAD_ID)) {
+            return;
+        }
+        try {
+            headRepository.save(new CatalogOutboxHead(HEAD_ID, 0L));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 시작한 다른 노드가 먼저 만든 경우
+            log.debug("Catalog outbox head already created by another node");
+        }
+    }
+
+    /**
+     * 버전 행을 잠그고 다음 버전으로 이벤트를 기록합니다.
+     * 잠금은 커밋까지 유지되므로 쓰기 트랜잭션의 커밋 구간만 직렬화되고, 버전 순서가 커밋 순서와 같아집니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        CatalogOutboxHead head = headRepository.findForUpdateById(HEAD_ID)
+                .orElseThrow(() -> new IllegalStateException("Catalog outbox head row is missing"));
+        head.setVersion(head.getVersion() + 1);
+        outboxRepository.save(new CatalogOutboxEvent(head.getVersion(), write(event), Instant.now()));
+    }
+
+    /**
+     * 마지막으로 커밋된 버전입니다.
+     */
+    public long headVersion() {
+        return headRepository.findById(HEAD_ID).map(CatalogOutboxHead::getVersion).orElse(0L);
+    }
+
+    CatalogChangedEvent read(String payload) {
+        try {
+            Payload p = objectMapper.readValue(payload, Payload.class);
+            return new CatalogChangedEvent(p.type(), p.brandId(), p.brandName(), p.categoryNames(), p.products());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String write(CatalogChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(new Payload(event.getType(), event.getBrandId(), event.getBrandName(),
+                    event.getCategoryNames(), event.getProducts()));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Payload(CatalogChangedEvent.Type type, Long brandId, String brandName,
+                           List<String> categoryNames, List<CatalogChangedEvent.ProductChange> products) {
+    }
+}
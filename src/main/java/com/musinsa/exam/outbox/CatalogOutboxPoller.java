@@ -0,0 +1,93 @@
+package com.musinsa.exam.outbox;
+
+import com.musinsa.exam.event.CatalogChangedEvent;
+import com.musinsa.exam.model.CatalogOutboxEvent;
+import com.musinsa.exam.repository.CatalogOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 아웃박스를 버전 순서로 읽어 이 노드에 다시 발행합니다.
+ * 발행된 이벤트는 트랜잭션 밖이므로 가격 인덱스, 캐시 제거, 카탈로그 버전 리스너가 곧바로 실행됩니다.
+ * <p>
+ * 이 노드가 기록한 이벤트도 함께 적용합니다. 커밋 직후 이미 반영했더라도, 그 사이 적용된 이전 버전의 다른 노드 변경이
+ * 같은 상품을 덮어썼을 수 있기 때문입니다. 이벤트는 절대값(가격, 브랜드 이름)을 담고 있어 다시 적용해도 결과가 같습니다.
+ * <p>
+ * 시작할 때나 보관 기간이 지나 지워진 버전을 건너뛰어야 할 때는 현재 버전을 기준으로 전체 재적재 이벤트를 발행합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "musinsa.outbox.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CatalogOutboxPoller {
+
+    private final CatalogOutbox outbox;
+    private final CatalogOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${musinsa.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${musinsa.outbox.retention:P1D}")
+    private Duration retention;
+
+    /**
+     * 마지막으로 적용한 버전입니다. 스케줄러 스레드에서만 쓰고, 아직 따라잡기 전이면 -1입니다.
+     */
+    private volatile long appliedVersion = -1;
+
+    public long appliedVersion() {
+        return appliedVersion;
+    }
+
+    @Scheduled(fixedDelayString = "${musinsa.outbox.poll-interval:1000}")
+    public void poll() {
+        if (appliedVersion < 0) {
+            catchUp();
+            return;
+        }
+
+        List<CatalogOutboxEvent> events = outboxRepository.findByVersionGreaterThanOrderByVersion(appliedVersion, Limit.of(batchSize));
+        for (CatalogOutboxEvent event : events) {
+            if (event.getVersion() != appliedVersion + 1) {
+                log.warn("Catalog outbox versions {}..{} were pruned before being applied, reloading",
+                        appliedVersion + 1, event.getVersion() - 1);
+                catchUp();
+                return;
+            }
+            eventPublisher.publishEvent(outbox.read(event.getPayload()));
+            appliedVersion = event.getVersion();
+        }
+        if (!events.isEmpty()) {
+            log.debug("Applied catalog outbox up to version {}", appliedVersion);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${musinsa.outbox.prune-interval:3600000}")
+    public void prune() {
+        int deleted = outboxRepository.deleteCreatedBefore(Instant.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Pruned {} catalog outbox events older than {}", deleted, retention);
+        }
+    }
+
+    /**
+     * 현재 버전을 먼저 읽고 전체를 다시 적재합니다. 재적재 도중 커밋된 변경은 다음 폴링에서 다시 적용됩니다.
+     */
+    private void catchUp() {
+        long head = outbox.headVersion();
+        eventPublisher.publishEvent(CatalogChangedEvent.catalogReloaded());
+        appliedVersion = head;
+        log.info("Catalog reloaded at outbox version {}", head);
+    }
+}
@@ -0,0 +1,147 @@
+package com.musinsa.exam.replica;
+
+import com.musinsa.exam.event.CatalogChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로컬에서 H2 인메모리 DB 여러 개를 primary와 복제본으로 띄울 때 비동기 복제를 흉내 냅니다.
+ * <p>
+ * 커밋된 카탈로그 변경이 있으면 {@code musinsa.replica.emulated-replication-interval}마다 primary의 {@code SCRIPT} 결과로
+ * 각 복제본을 통째로 다시 채웁니다. 복제본의 삭제와 적재는 한 트랜잭션이므로 복제본을 읽는 쪽은 이전 상태나 새 상태만 봅니다.
+ * 복제본에는 처음 한 번 스키마를 만들고, primary가 이미 검사한 데이터를 순서와 관계없이 넣도록 참조 무결성 검사를 끕니다.
+ * 실제 운영에서는 데이터베이스의 복제 기능을 쓰고 이 컴포넌트는 켜지 않습니다.
+ */
+@Slf4j
+public class H2ReplicationEmulator {
+
+    private static final String INSERT_PREFIX = "INSERT INTO \"PUBLIC\".";
+
+    private final DataSource primaryDataSource;
+    private final List<String> replicaUrls;
+    private final String username;
+    private final String password;
+
+    /**
+     * 마지막 복제 이후 커밋된 변경이 있는지 여부입니다.
+     */
+    private final AtomicBoolean changed = new AtomicBoolean();
+
+    /**
+     * 시작 시 복제와 주기 복제가 겹치지 않게 합니다. 가상 스레드 모드에서 JDBC를 기다리는 동안 캐리어 스레드에 고정되지 않도록
+     * synchronized 대신 씁니다.
+     */
+    private final Lock replicationLock = new ReentrantLock();
+
+    public H2ReplicationEmulator(DataSource primaryDataSource, List<String> replicaUrls, String username, String password) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaUrls = List.copyOf(replicaUrls);
+        this.username = username;
+        this.password = password;
+    }
+
+    /**
+     * 스키마 생성과 초기 데이터 적재가 끝난 뒤, 요청을 받기 전에 복제본을 한 번 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replicateOnStartup() throws SQLException {
+        replicate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        changed.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${musinsa.replica.emulated-replication-interval}",
+            initialDelayString = "${musinsa.replica.emulated-replication-interval}")
+    public void replicateIfChanged() throws SQLException {
+        if (changed.getAndSet(false)) {
+            replicate();
+        }
+    }
+
+    /**
+     * primary의 현재 데이터를 모든 복제본에 복사합니다.
+     */
+    public void replicate() throws SQLException {
+        replicationLock.lock();
+        try {
+            copyToReplicas();
+        } finally {
+            replicationLock.unlock();
+        }
+    }
+
+    private void copyToReplicas() throws SQLException {
+        List<String> schema = new ArrayList<>();
+        List<String> inserts = new ArrayList<>();
+        try (Connection primary = primaryDataSource.getConnection();
+             Statement statement = primary.createStatement();
+             ResultSet script = statement.executeQuery("SCRIPT NOPASSWORDS NOSETTINGS")) {
+            while (script.next()) {
+                String sql = script.getString(1);
+                if (sql.startsWith(INSERT_PREFIX)) {
+                    inserts.add(sql);
+                } else if (!sql.startsWith("--") && !sql.startsWith("CREATE USER")) {
+                    schema.add(sql);
+                }
+            }
+        }
+
+        for (String url : replicaUrls) {
+            try (Connection replica = DriverManager.getConnection(url, username, password);
+                 Statement statement = replica.createStatement()) {
+                List<String> tables = tables(statement);
+                if (tables.isEmpty()) {
+                    for (String sql : schema) {
+                        statement.execute(sql);
+                    }
+                    statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+                    tables = tables(statement);
+                }
+
+                replica.setAutoCommit(false);
+                try {
+                    for (String table : tables) {
+                        statement.executeUpdate("DELETE FROM \"PUBLIC\".\"" + table + "\"");
+                    }
+                    for (String sql : inserts) {
+                        statement.executeUpdate(sql);
+                    }
+                    replica.commit();
+                } catch (SQLException e) {
+                    replica.rollback();
+                    throw e;
+                }
+            }
+        }
+        log.debug("Replicated {} insert statements to {} replicas", inserts.size(), replicaUrls.size());
+    }
+
+    private static List<String> tables(Statement statement) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (ResultSet rows = statement.executeQuery(
+                "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'")) {
+            while (rows.next()) {
+                tables.add(rows.getString(1));
+            }
+        }
+        return tables;
+    }
+}
@@ -0,0 +1,32 @@
+package com.musinsa.exam.replica;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션도 복제본 대신 primary에서 읽도록 고정합니다.
+ * 방금 쓴 클라이언트의 요청이나, 커밋 직후 전체를 다시 읽는 가격 인덱스처럼 복제 지연을 허용할 수 없는 읽기에 씁니다.
+ */
+public final class PrimaryPin {
+
+    private static final ThreadLocal<Boolean> PINNED = ThreadLocal.withInitial(() -> false);
+
+    private PrimaryPin() {
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get();
+    }
+
+    /**
+     * 현재 스레드를 primary에 고정합니다. 반환된 범위를 닫으면 고정 전 상태로 돌아가므로 중첩해서 써도 됩니다.
+     */
+    public static Scope pin() {
+        boolean previous = PINNED.get();
+        PINNED.set(true);
+        return () -> PINNED.set(previous);
+    }
+
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
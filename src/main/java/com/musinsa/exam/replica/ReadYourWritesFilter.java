@@ -0,0 +1,76 @@
+package com.musinsa.exam.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 쓰기 요청을 보낸 클라이언트가 복제 지연과 관계없이 자신이 쓴 데이터를 읽도록 일정 시간 primary에 고정합니다.
+ * <p>
+ * GET/HEAD/OPTIONS 외의 요청은 쓰기로 보고, 응답에 고정 만료 시각(epoch millis) 쿠키를 붙인 뒤 요청 전체를 primary에서 처리합니다.
+ * 이후 요청에 만료 전 쿠키가 있으면 같은 방식으로 고정합니다. 쿠키는 응답 본문이 쓰이기 전에 붙어야 하므로 처리 전에 추가합니다.
+ * 만료 시각을 쿠키에 담으므로 다른 인스턴스로 가는 요청도 같이 고정되며, 창 길이는 복제 지연보다 길게 잡습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "musinsa.replica.enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "musinsa-primary-until";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(@Value("${musinsa.replica.read-your-writes-window:5s}") Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean write = !READ_METHODS.contains(request.getMethod());
+        if (write) {
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now + window.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            response.addCookie(cookie);
+        }
+
+        if (!write && pinnedUntil(request) <= now) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try (PrimaryPin.Scope ignored = PrimaryPin.pin()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,62 @@
+package com.musinsa.exam.replica;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본들에 돌아가며 보내고, 그 외(쓰기 트랜잭션, 트랜잭션 밖, {@link PrimaryPin} 고정)는 primary로 보냅니다.
+ * <p>
+ * 트랜잭션의 읽기 전용 여부는 트랜잭션 시작 뒤에야 정해지므로 {@code LazyConnectionDataSourceProxy}로 감싸
+ * 첫 문장을 실행할 때 커넥션을 고르게 해야 합니다. 그러면 인메모리 인덱스에서 응답하는 조회처럼
+ * SQL을 실행하지 않는 트랜잭션은 커넥션을 아예 빌리지 않습니다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private final List<DataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        this.replicas = List.copyOf(replicas);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(i, this.replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PrimaryPin.isPinned()) {
+            return PRIMARY;
+        }
+        return Math.floorMod(next.getAndIncrement(), replicas.size());
+    }
+
+    /**
+     * primary는 별도 빈으로 닫히므로 여기서 만든 복제본 풀만 닫습니다.
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        log.debug("Closed {} replica data sources", replicas.size());
+    }
+}
@@ -2,11 +2,25 @@ package com.musinsa.exam.repository;
 
 import com.musinsa.exam.model.Brand;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BrandRepository extends JpaRepository<Brand, Long> {
     Optional<Brand> findByName(String name);
-}
\ No newline at end of file
+    List<Brand> findByNameIn(Collection<String> names);
+
+    /**
+     * 브랜드를 엔티티 조회 없이 DELETE 한 문장으로 삭제하고 삭제된 행 수를 반환합니다.
+     * 영속성 컨텍스트를 거치지 않으므로 실행 후 컨텍스트를 비워 삭제된 엔티티가 남지 않게 합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Brand b where b.id = :id")
+    int deleteInBulkById(@Param("id") Long id);
+}
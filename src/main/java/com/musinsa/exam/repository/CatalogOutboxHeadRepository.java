@@ -0,0 +1,19 @@
+package com.musinsa.exam.repository;
+
+import com.musinsa.exam.model.CatalogOutboxHead;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CatalogOutboxHeadRepository extends JpaRepository<CatalogOutboxHead, Integer> {
+
+    /**
+     * 버전 행을 SELECT ... FOR UPDATE로 읽습니다. 잠금은 호출한 트랜잭션이 끝날 때까지 유지됩니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<CatalogOutboxHead> findForUpdateById(Integer id);
+}
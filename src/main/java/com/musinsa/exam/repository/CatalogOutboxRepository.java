@@ -0,0 +1,24 @@
+package com.musinsa.exam.repository;
+
+import com.musinsa.exam.model.CatalogOutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface CatalogOutboxRepository extends JpaRepository<CatalogOutboxEvent, Long> {
+
+    List<CatalogOutboxEvent> findByVersionGreaterThanOrderByVersion(long version, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("delete from CatalogOutboxEvent e where e.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") Instant before);
+}
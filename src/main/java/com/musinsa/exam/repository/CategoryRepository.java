@@ -2,11 +2,19 @@ package com.musinsa.exam.repository;
 
 import com.musinsa.exam.model.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findByName(String name);
-}
\ No newline at end of file
+    boolean existsByName(String name);
+    List<Category> findByNameIn(Collection<String> names);
+
+    @Query("select c.name from Category c order by c.id")
+    List<String> findAllNames();
+}
@@ -3,14 +3,149 @@ package com.musinsa.exam.repository;
 import com.musinsa.exam.model.Brand;
 import com.musinsa.exam.model.Category;
 import com.musinsa.exam.model.Product;
+import com.musinsa.exam.repository.projection.CategoryPriceRangeView;
+import com.musinsa.exam.repository.projection.CheapestBrandPriceView;
+import com.musinsa.exam.repository.projection.ProductKeyRow;
+import com.musinsa.exam.repository.projection.ProductPriceRow;
+import com.musinsa.exam.repository.projection.ProductView;
+import com.musinsa.exam.repository.projection.RankedPriceRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    String RANKED_PRODUCTS =
+            "SELECT p.category_id, b.name AS brand_name, p.price, " +
+            "ROW_NUMBER() OVER (PARTITION BY p.category_id ORDER BY p.price ASC, p.brand_id ASC) AS lowest_rank, " +
+            "ROW_NUMBER() OVER (PARTITION BY p.category_id ORDER BY p.price DESC, p.brand_id ASC) AS highest_rank " +
+            "FROM PRODUCT p JOIN BRAND b ON b.id = p.brand_id ";
+
+    String CATEGORY_PRICE_RANGE_SELECT =
+            "SELECT c.id AS categoryId, c.name AS categoryName, " +
+            "MAX(CASE WHEN r.lowest_rank = 1 THEN r.brand_name END) AS lowestBrand, " +
+            "MAX(CASE WHEN r.lowest_rank = 1 THEN r.price END) AS lowestPrice, " +
+            "MAX(CASE WHEN r.highest_rank = 1 THEN r.brand_name END) AS highestBrand, " +
+            "MAX(CASE WHEN r.highest_rank = 1 THEN r.price END) AS highestPrice " +
+            "FROM CATEGORY c ";
+
     Product findTopByCategoryOrderByPriceAsc(Category category);
     Product findTopByCategoryOrderByPriceDesc(Category category);
     List<Product> findByBrand(Brand brand);
-}
\ No newline at end of file
+
+    /**
+     * 브랜드 id 목록과 카테고리 id 목록에 모두 속하는 상품의 (상품 id, 브랜드 id, 카테고리 id)만 조회합니다.
+     * 두 목록의 모든 조합이 대상이므로 호출자가 필요한 조합만 골라 {@link #findWithBrandAndCategoryByIdIn}으로 엔티티를 읽습니다.
+     */
+    @Query("select new com.musinsa.exam.repository.projection.ProductKeyRow(p.id, p.brand.id, p.category.id) " +
+            "from Product p where p.brand.id in :brandIds and p.category.id in :categoryIds")
+    List<ProductKeyRow> findKeysByBrandIdInAndCategoryIdIn(@Param("brandIds") Collection<Long> brandIds,
+                                                           @Param("categoryIds") Collection<Long> categoryIds);
+
+    @Query("select p from Product p join fetch p.brand join fetch p.category where p.id in :ids")
+    List<Product> findWithBrandAndCategoryByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select p from Product p join fetch p.brand join fetch p.category where p.brand in :brands")
+    List<Product> findWithBrandAndCategoryByBrandIn(@Param("brands") Collection<Brand> brands);
+
+    @Query("select new com.musinsa.exam.repository.projection.ProductPriceRow(p.brand.id, p.category.id, p.price) from Product p")
+    List<ProductPriceRow> findAllPriceRows();
+
+    /**
+     * 전체 상품을 id 순서로 한 방향 스트림으로 조회합니다.
+     * 드라이버가 fetch size 단위로 행을 가져오므로 호출자는 트랜잭션 안에서 스트림을 닫을 때까지 소비해야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.musinsa.exam.repository.projection.ProductView(p.id, b.name, c.name, p.price) " +
+            "from Product p join p.brand b join p.category c " +
+            "order by p.id")
+    Stream<ProductView> streamAllViews();
+
+    /**
+     * 모든 카테고리에 상품이 있는 브랜드 중 가격 합계가 가장 낮은 브랜드의 카테고리별 가격을 카테고리 순서로 반환합니다.
+     * 카테고리 수 확인, 브랜드별 합계 집계, 해당 브랜드의 가격 조회를 한 번의 왕복으로 처리합니다.
+     * 세 단계가 같은 문장 안에서 실행되므로, 그 사이에 카테고리나 상품이 바뀌어 합계와 카테고리별 가격이 서로 다른 시점을 보는 일이 없습니다.
+     */
+    @Query(value = "SELECT b.name AS brandName, ch.total_price AS totalPrice, c.name AS categoryName, p.price AS price " +
+            "FROM (SELECT p.brand_id, SUM(p.price) AS total_price FROM PRODUCT p " +
+            "GROUP BY p.brand_id " +
+            "HAVING COUNT(DISTINCT p.category_id) = (SELECT COUNT(*) FROM CATEGORY) " +
+            "ORDER BY total_price ASC, p.brand_id ASC " +
+            "LIMIT 1) ch " +
+            "JOIN BRAND b ON b.id = ch.brand_id " +
+            "JOIN PRODUCT p ON p.brand_id = ch.brand_id " +
+            "JOIN CATEGORY c ON c.id = p.category_id " +
+            "ORDER BY c.id",
+            nativeQuery = true)
+    List<CheapestBrandPriceView> findCheapestBrandPrices();
+
+    /**
+     * 카테고리의 가격 범위 안에서 (가격, 브랜드 id)가 커서보다 큰 상품을 가격 순으로 조회합니다.
+     * (category_id, price, brand_id) 인덱스를 따라 읽으므로 깊은 페이지도 OFFSET처럼 앞 행을 건너뛰지 않습니다.
+     */
+    @Query("select new com.musinsa.exam.repository.projection.RankedPriceRow(b.id, b.name, p.price) " +
+            "from Product p join p.brand b join p.category c " +
+            "where c.name = :categoryName and p.price between :minPrice and :maxPrice " +
+            "and (p.price > :afterPrice or (p.price = :afterPrice and b.id > :afterBrandId)) " +
+            "order by p.price, b.id")
+    List<RankedPriceRow> findRanking(@Param("categoryName") String categoryName,
+                                     @Param("minPrice") int minPrice,
+                                     @Param("maxPrice") int maxPrice,
+                                     @Param("afterPrice") int afterPrice,
+                                     @Param("afterBrandId") long afterBrandId,
+                                     Limit limit);
+
+    @Query("select c.name from Product p join p.category c where p.brand.id = :brandId order by c.id")
+    List<String> findCategoryNamesByBrandId(@Param("brandId") Long brandId);
+
+    /**
+     * 브랜드의 상품을 상품 수와 관계없이 DELETE 한 문장으로 삭제하고 삭제된 행 수를 반환합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Product p where p.brand.id = :brandId")
+    int deleteInBulkByBrandId(@Param("brandId") Long brandId);
+
+    /**
+     * 모든 카테고리의 최저/최고가 브랜드를 ROW_NUMBER() 윈도 함수로 한 번에 조회합니다.
+     */
+    @Query(value = CATEGORY_PRICE_RANGE_SELECT +
+            "LEFT JOIN (" + RANKED_PRODUCTS + ") r " +
+            "ON r.category_id = c.id AND (r.lowest_rank = 1 OR r.highest_rank = 1) " +
+            "GROUP BY c.id, c.name ORDER BY c.id",
+            nativeQuery = true)
+    List<CategoryPriceRangeView> findAllCategoryPriceRanges();
+
+    /**
+     * 이름으로 지정한 카테고리들의 최저/최고가 브랜드를 한 번에 조회합니다. 윈도 함수는 해당 카테고리 상품에만 적용됩니다.
+     */
+    @Query(value = CATEGORY_PRICE_RANGE_SELECT +
+            "LEFT JOIN (" + RANKED_PRODUCTS + "WHERE p.category_id IN (SELECT id FROM CATEGORY WHERE name IN (:categoryNames))) r " +
+            "ON r.category_id = c.id AND (r.lowest_rank = 1 OR r.highest_rank = 1) " +
+            "WHERE c.name IN (:categoryNames) " +
+            "GROUP BY c.id, c.name ORDER BY c.id",
+            nativeQuery = true)
+    List<CategoryPriceRangeView> findCategoryPriceRanges(@Param("categoryNames") Collection<String> categoryNames);
+
+    @Query(value = CATEGORY_PRICE_RANGE_SELECT +
+            "LEFT JOIN (" + RANKED_PRODUCTS + "WHERE p.category_id = (SELECT id FROM CATEGORY WHERE name = :categoryName)) r " +
+            "ON r.category_id = c.id AND (r.lowest_rank = 1 OR r.highest_rank = 1) " +
+            "WHERE c.name = :categoryName " +
+            "GROUP BY c.id, c.name",
+            nativeQuery = true)
+    Optional<CategoryPriceRangeView> findCategoryPriceRange(@Param("categoryName") String categoryName);
+}
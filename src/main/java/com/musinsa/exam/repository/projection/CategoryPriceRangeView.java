@@ -0,0 +1,18 @@
+package com.musinsa.exam.repository.projection;
+
+/**
+ * 카테고리별 최저/최고가 브랜드 조회 결과입니다. 상품이 없는 카테고리는 브랜드와 가격이 null입니다.
+ */
+public interface CategoryPriceRangeView {
+    Long getCategoryId();
+
+    String getCategoryName();
+
+    String getLowestBrand();
+
+    Integer getLowestPrice();
+
+    String getHighestBrand();
+
+    Integer getHighestPrice();
+}
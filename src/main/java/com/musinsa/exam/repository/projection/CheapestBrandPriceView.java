@@ -0,0 +1,14 @@
+package com.musinsa.exam.repository.projection;
+
+/**
+ * 총액이 가장 낮은 브랜드의 카테고리별 가격 한 행입니다. 브랜드 이름과 총액은 모든 행에서 같습니다.
+ */
+public interface CheapestBrandPriceView {
+    String getBrandName();
+
+    Long getTotalPrice();
+
+    String getCategoryName();
+
+    Integer getPrice();
+}
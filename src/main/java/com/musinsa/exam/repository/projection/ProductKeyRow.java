@@ -0,0 +1,7 @@
+package com.musinsa.exam.repository.projection;
+
+/**
+ * 상품을 (브랜드, 카테고리) 조합으로 찾기 위한 id만 담는 조회 결과입니다.
+ */
+public record ProductKeyRow(Long id, Long brandId, Long categoryId) {
+}
@@ -0,0 +1,7 @@
+package com.musinsa.exam.repository.projection;
+
+/**
+ * 상품 엔티티 대신 브랜드/카테고리 id와 가격만 담는 경량 조회 결과입니다.
+ */
+public record ProductPriceRow(Long brandId, Long categoryId, Integer price) {
+}
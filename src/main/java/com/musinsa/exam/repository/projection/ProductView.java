@@ -0,0 +1,8 @@
+package com.musinsa.exam.repository.projection;
+
+/**
+ * 내보내기용으로 상품과 브랜드/카테고리 이름을 함께 담는 조회 결과입니다.
+ * 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않습니다.
+ */
+public record ProductView(Long id, String brand, String category, Integer price) {
+}
@@ -0,0 +1,7 @@
+package com.musinsa.exam.repository.projection;
+
+/**
+ * 카테고리 가격 순위의 한 행입니다.
+ */
+public record RankedPriceRow(Long brandId, String brandName, Integer price) {
+}
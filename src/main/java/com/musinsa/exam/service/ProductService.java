@@ -3,6 +3,12 @@ package com.musinsa.exam.service;
 import com.musinsa.exam.dto.LowestPriceBrandsDto;
 import com.musinsa.exam.dto.LowestPriceBrandDto;
 import com.musinsa.exam.dto.CategoryPriceRangeDto;
+import com.musinsa.exam.dto.CategoryRankingDto;
+import com.musinsa.exam.dto.DashboardDto;
+import com.musinsa.exam.dto.OutfitDto;
+import com.musinsa.exam.dto.OutfitRequestDto;
+import com.musinsa.exam.dto.ProductBatchResultDto;
+import com.musinsa.exam.dto.ProductDto;
 import com.musinsa.exam.model.Brand;
 
 import java.util.List;
@@ -11,8 +17,16 @@ public interface ProductService {
     LowestPriceBrandsDto getLowestPriceBrands();
     LowestPriceBrandDto getLowestPriceBrand();
     CategoryPriceRangeDto getCategoryPriceRange(String categoryName);
+    List<CategoryPriceRangeDto> getCategoryPriceRanges(List<String> categoryNames);
+    DashboardDto getDashboard();
+    CategoryRankingDto getCategoryRanking(String categoryName, int limit, Integer minPrice, Integer maxPrice, String cursor);
+    OutfitDto optimizeOutfit(OutfitRequestDto request);
     Brand addBrand(String brandName);
     Brand updateBrand(Long brandId, String brandName);
     void deleteBrand(Long brandId);
+    ProductDto addProduct(ProductDto product);
+    ProductDto updateProduct(Long productId, ProductDto product);
+    void deleteProduct(Long productId);
+    ProductBatchResultDto upsertProducts(List<ProductDto> products);
     List<String> getAllCategories();
 }
\ No newline at end of file
@@ -1,8 +1,18 @@
 package com.musinsa.exam.service;
 
+import com.musinsa.exam.cache.CacheNames;
+import com.musinsa.exam.cache.SingleFlight;
 import com.musinsa.exam.dto.LowestPriceBrandsDto;
 import com.musinsa.exam.dto.LowestPriceBrandDto;
 import com.musinsa.exam.dto.CategoryPriceRangeDto;
+import com.musinsa.exam.dto.CategoryRankingDto;
+import com.musinsa.exam.dto.DashboardDto;
+import com.musinsa.exam.dto.OutfitDto;
+import com.musinsa.exam.dto.OutfitRequestDto;
+import com.musinsa.exam.dto.ProductBatchResultDto;
+import com.musinsa.exam.dto.ProductDto;
+import com.musinsa.exam.event.CatalogChangedEvent;
+import com.musinsa.exam.index.PriceReader;
 import com.musinsa.exam.model.Brand;
 import com.musinsa.exam.model.Category;
 import com.musinsa.exam.model.Product;
@@ -11,164 +21,479 @@ import com.musinsa.exam.repository.CategoryRepository;
 import com.musinsa.exam.repository.ProductRepository;
 import com.musinsa.exam.exception.ResourceNotFoundException;
 import com.musinsa.exam.exception.DuplicateResourceException;
+import com.musinsa.exam.exception.InvalidInputException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "musinsa.service", histogram = true)
 public class ProductServiceImpl implements ProductService {
 
+    static final int MAX_RANKING_LIMIT = 100;
+    static final int MAX_BATCH_CATEGORIES = 100;
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
     private final BrandRepository brandRepository;
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
+    private final PriceReader priceReader;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @SingleFlight
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.LOWEST_PRICE_BRANDS, sync = true, condition = CacheNames.UNLESS_PINNED_TO_PRIMARY)
     public LowestPriceBrandsDto getLowestPriceBrands() {
-        List<Category> categories = categoryRepository.findAll();
-        if (categories.isEmpty()) {
+        if (!priceReader.hasCategories()) {
             throw new ResourceNotFoundException("카테고리를 찾을 수 없습니다");
         }
 
-        LowestPriceBrandsDto result = new LowestPriceBrandsDto();
-        List<LowestPriceBrandsDto.CategoryPrice> categoryPrices = new ArrayList<>();
-        int totalPrice = 0;
-
-        for (Category category : categories) {
-            Product lowestPriceProduct = productRepository.findTopByCategoryOrderByPriceAsc(category);
-            if (lowestPriceProduct != null) {
-                LowestPriceBrandsDto.CategoryPrice categoryPrice = new LowestPriceBrandsDto.CategoryPrice();
-                categoryPrice.setCategory(category.getName());
-                categoryPrice.setBrand(lowestPriceProduct.getBrand().getName());
-                categoryPrice.setPrice(lowestPriceProduct.getPrice());
-                categoryPrices.add(categoryPrice);
-                totalPrice += lowestPriceProduct.getPrice();
-            }
-        }
-
-        if (categoryPrices.isEmpty()) {
+        List<PriceReader.CategoryPrice> lowestPrices = priceReader.lowestPerCategory();
+        if (lowestPrices.isEmpty()) {
             throw new ResourceNotFoundException("상품을 찾을 수 없습니다");
         }
 
-        result.setCategoryPrices(categoryPrices);
-        result.setTotalPrice(totalPrice);
-        return result;
+        return toLowestPriceBrandsDto(lowestPrices);
     }
 
     @Override
+    @SingleFlight
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.LOWEST_PRICE_BRAND, sync = true, condition = CacheNames.UNLESS_PINNED_TO_PRIMARY)
     public LowestPriceBrandDto getLowestPriceBrand() {
-        List<Brand> brands = brandRepository.findAll();
-        if (brands.isEmpty()) {
+        if (!priceReader.hasBrands()) {
             throw new ResourceNotFoundException("브랜드를 찾을 수 없습니다");
         }
 
-        Brand lowestPriceBrand = null;
-        int lowestTotalPrice = Integer.MAX_VALUE;
-        List<Product> lowestPriceProducts = null;
+        PriceReader.BrandTotal lowestPriceBrand = priceReader.cheapestBrand()
+                .orElseThrow(() -> new ResourceNotFoundException("모든 카테고리 상품을 갖춘 브랜드를 찾을 수 없습니다"));
 
-        for (Brand brand : brands) {
-            List<Product> products = productRepository.findByBrand(brand);
-            int totalPrice = products.stream().mapToInt(Product::getPrice).sum();
-            if (totalPrice < lowestTotalPrice) {
-                lowestTotalPrice = totalPrice;
-                lowestPriceBrand = brand;
-                lowestPriceProducts = products;
-            }
+        return toLowestPriceBrandDto(lowestPriceBrand);
+    }
+
+    @Override
+    @SingleFlight
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CATEGORY_PRICE_RANGE, sync = true, condition = CacheNames.UNLESS_PINNED_TO_PRIMARY)
+    public CategoryPriceRangeDto getCategoryPriceRange(String categoryName) {
+        PriceReader.PriceRange range = priceReader.priceRange(categoryName)
+                .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다: " + categoryName));
+
+        if (range.lowest() == null || range.highest() == null) {
+            throw new ResourceNotFoundException("해당 카테고리의 상품을 찾을 수 없습니다: " + categoryName);
         }
 
-        if (lowestPriceBrand == null) {
-            throw new ResourceNotFoundException("상품을 찾을 수 없습니다");
+        return toCategoryPriceRangeDto(categoryName, range);
+    }
+
+    /**
+     * 여러 카테고리의 최저/최고가를 요청 순서대로 한 번에 조회합니다. 중복된 이름은 한 번만 반환하며,
+     * 상품이 없는 카테고리는 최저가/최고가가 null인 항목으로 반환합니다.
+     */
+    @Override
+    @SingleFlight
+    public List<CategoryPriceRangeDto> getCategoryPriceRanges(List<String> categoryNames) {
+        if (categoryNames == null || categoryNames.isEmpty()) {
+            throw new InvalidInputException("카테고리를 하나 이상 지정해야 합니다");
+        }
+        Set<String> names = new LinkedHashSet<>(categoryNames);
+        if (names.size() > MAX_BATCH_CATEGORIES) {
+            throw new InvalidInputException("카테고리는 한 번에 " + MAX_BATCH_CATEGORIES + "개까지 조회할 수 있습니다: " + names.size());
         }
 
-        LowestPriceBrandDto result = new LowestPriceBrandDto();
-        LowestPriceBrandDto.LowestPrice lowestPrice = new LowestPriceBrandDto.LowestPrice();
-        lowestPrice.setBrand(lowestPriceBrand.getName());
-        lowestPrice.setTotalPrice(lowestTotalPrice);
+        Map<String, PriceReader.PriceRange> ranges = priceReader.priceRanges(names);
+        if (ranges.size() < names.size()) {
+            names.removeAll(ranges.keySet());
+            throw new ResourceNotFoundException("카테고리를 찾을 수 없습니다: " + names);
+        }
 
-        List<LowestPriceBrandDto.CategoryPrice> categoryPrices = lowestPriceProducts.stream()
-                .map(p -> {
-                    LowestPriceBrandDto.CategoryPrice categoryPrice = new LowestPriceBrandDto.CategoryPrice();
-                    categoryPrice.setCategory(p.getCategory().getName());
-                    categoryPrice.setPrice(p.getPrice());
-                    return categoryPrice;
-                })
-                .collect(Collectors.toList());
-        lowestPrice.setCategories(categoryPrices);
+        List<CategoryPriceRangeDto> result = new ArrayList<>(ranges.size());
+        ranges.forEach((name, range) -> result.add(toCategoryPriceRangeDto(name, range)));
+        return result;
+    }
 
-        result.setLowestPrice(lowestPrice);
+    /**
+     * 메인 화면의 카테고리 목록, 카테고리별 최저가, 단일 브랜드 최저가, 카테고리별 가격 범위를 가격 데이터 한 번 조회로 만듭니다.
+     * 개별 API와 달리 데이터가 없는 항목은 404 대신 null로 반환합니다.
+     */
+    @Override
+    @SingleFlight
+    public DashboardDto getDashboard() {
+        PriceReader.Dashboard dashboard = priceReader.dashboard();
+
+        List<PriceReader.CategoryPrice> lowestPrices = new ArrayList<>(dashboard.ranges().size());
+        List<CategoryPriceRangeDto> priceRanges = new ArrayList<>(dashboard.ranges().size());
+        for (int i = 0; i < dashboard.ranges().size(); i++) {
+            PriceReader.PriceRange range = dashboard.ranges().get(i);
+            if (range.lowest() != null) {
+                lowestPrices.add(range.lowest());
+            }
+            priceRanges.add(toCategoryPriceRangeDto(dashboard.categoryNames().get(i), range));
+        }
+
+        DashboardDto result = new DashboardDto();
+        result.setCategories(dashboard.categoryNames());
+        result.setLowestPriceBrands(lowestPrices.isEmpty() ? null : toLowestPriceBrandsDto(lowestPrices));
+        result.setLowestPriceBrand(dashboard.cheapestBrand() == null ? null : toLowestPriceBrandDto(dashboard.cheapestBrand()));
+        result.setPriceRanges(priceRanges);
         return result;
     }
 
+    /**
+     * 가격 범위 안의 브랜드를 가격 오름차순으로 조회합니다.
+     * 다음 페이지 존재 여부는 limit보다 한 건 더 읽어 판단하고, 커서는 마지막 항목의 "가격:브랜드 id"입니다.
+     */
     @Override
-    public CategoryPriceRangeDto getCategoryPriceRange(String categoryName) {
-        Category category = categoryRepository.findByName(categoryName)
-                .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다: " + categoryName));
+    public CategoryRankingDto getCategoryRanking(String categoryName, int limit, Integer minPrice, Integer maxPrice, String cursor) {
+        if (limit < 1 || limit > MAX_RANKING_LIMIT) {
+            throw new InvalidInputException("limit은 1 이상 " + MAX_RANKING_LIMIT + " 이하여야 합니다: " + limit);
+        }
+        int min = minPrice == null ? 0 : minPrice;
+        int max = maxPrice == null ? Integer.MAX_VALUE : maxPrice;
+        if (min > max) {
+            throw new InvalidInputException("최소 가격이 최대 가격보다 클 수 없습니다: " + min + " > " + max);
+        }
 
-        Product lowestPriceProduct = productRepository.findTopByCategoryOrderByPriceAsc(category);
-        Product highestPriceProduct = productRepository.findTopByCategoryOrderByPriceDesc(category);
+        Integer afterPrice = null;
+        Long afterBrandId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split(":");
+            try {
+                if (parts.length != 2) {
+                    throw new NumberFormatException();
+                }
+                afterPrice = Integer.valueOf(parts[0]);
+                afterBrandId = Long.valueOf(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new InvalidInputException("잘못된 커서입니다: " + cursor);
+            }
+        }
 
-        if (lowestPriceProduct == null || highestPriceProduct == null) {
-            throw new ResourceNotFoundException("해당 카테고리의 상품을 찾을 수 없습니다: " + categoryName);
+        List<PriceReader.RankedPrice> ranked = priceReader.ranking(categoryName,
+                        new PriceReader.RankingQuery(min, max, afterPrice, afterBrandId, limit + 1))
+                .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다: " + categoryName));
+
+        List<CategoryRankingDto.BrandPrice> brands = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (PriceReader.RankedPrice rankedPrice : ranked.subList(0, Math.min(limit, ranked.size()))) {
+            CategoryRankingDto.BrandPrice brandPrice = new CategoryRankingDto.BrandPrice();
+            brandPrice.setBrand(rankedPrice.brand());
+            brandPrice.setPrice(rankedPrice.price());
+            brands.add(brandPrice);
         }
 
-        CategoryPriceRangeDto result = new CategoryPriceRangeDto();
+        CategoryRankingDto result = new CategoryRankingDto();
         result.setCategory(categoryName);
+        result.setBrands(brands);
+        if (ranked.size() > limit) {
+            PriceReader.RankedPrice last = ranked.get(limit - 1);
+            result.setNextCursor(last.price() + ":" + last.brandId());
+        }
+        return result;
+    }
 
-        CategoryPriceRangeDto.BrandPrice lowestPrice = new CategoryPriceRangeDto.BrandPrice();
-        lowestPrice.setBrand(lowestPriceProduct.getBrand().getName());
-        lowestPrice.setPrice(lowestPriceProduct.getPrice());
-        result.setLowestPrice(lowestPrice);
+    @Override
+    public OutfitDto optimizeOutfit(OutfitRequestDto request) {
+        if (request.getMaxBrands() != null && request.getMaxBrands() < 1) {
+            throw new InvalidInputException("최대 브랜드 수는 1 이상이어야 합니다: " + request.getMaxBrands());
+        }
+        Map<String, Integer> budgets = request.getCategoryBudgets() == null ? Map.of() : request.getCategoryBudgets();
+        budgets.forEach((category, budget) -> {
+            if (budget == null || budget <= 0) {
+                throw new InvalidInputException("예산은 0보다 커야 합니다: " + category);
+            }
+        });
 
-        CategoryPriceRangeDto.BrandPrice highestPrice = new CategoryPriceRangeDto.BrandPrice();
-        highestPrice.setBrand(highestPriceProduct.getBrand().getName());
-        highestPrice.setPrice(highestPriceProduct.getPrice());
-        result.setHighestPrice(highestPrice);
+        PriceReader.OutfitConstraints constraints = new PriceReader.OutfitConstraints(
+                request.getMaxBrands(),
+                request.getExcludedBrands() == null ? Set.of() : Set.copyOf(request.getExcludedBrands()),
+                request.getRequiredBrands() == null ? Set.of() : Set.copyOf(request.getRequiredBrands()),
+                budgets);
+        PriceReader.Outfit outfit = priceReader.cheapestOutfit(constraints)
+                .orElseThrow(() -> new ResourceNotFoundException("조건을 만족하는 코디를 찾을 수 없습니다"));
+
+        List<OutfitDto.CategoryPrice> categoryPrices = new ArrayList<>(outfit.prices().size());
+        for (PriceReader.CategoryPrice price : outfit.prices()) {
+            OutfitDto.CategoryPrice categoryPrice = new OutfitDto.CategoryPrice();
+            categoryPrice.setCategory(price.category());
+            categoryPrice.setBrand(price.brand());
+            categoryPrice.setPrice(price.price());
+            categoryPrices.add(categoryPrice);
+        }
 
+        OutfitDto result = new OutfitDto();
+        result.setCategoryPrices(categoryPrices);
+        result.setBrandCount(outfit.brandCount());
+        result.setTotalPrice(outfit.totalPrice());
         return result;
     }
 
     @Override
     @Transactional
     public Brand addBrand(String brandName) {
-        if (brandRepository.findByName(brandName).isPresent()) {
-            throw new DuplicateResourceException("Brand already exists: " + brandName);
-        }
         Brand brand = new Brand();
         brand.setName(brandName);
-        return brandRepository.save(brand);
+        Brand saved = saveUnique(() -> brandRepository.saveAndFlush(brand), "Brand already exists: " + brandName);
+        eventPublisher.publishEvent(CatalogChangedEvent.brandSaved(saved, List.of()));
+        return saved;
     }
 
+    /**
+     * 이름 중복은 유니크 제약으로 판단하고, 동시에 같은 브랜드를 수정하면 버전 충돌로 한쪽이 실패합니다.
+     */
     @Override
     @Transactional
     public Brand updateBrand(Long brandId, String brandName) {
         Brand brand = brandRepository.findById(brandId)
                 .orElseThrow(() -> new ResourceNotFoundException("Brand not found with id: " + brandId));
 
-        Optional<Brand> existingBrandWithName = brandRepository.findByName(brandName);
-        if (existingBrandWithName.isPresent() && !existingBrandWithName.get().getId().equals(brandId)) {
-            throw new DuplicateResourceException("Brand name already in use: " + brandName);
-        }
-
         brand.setName(brandName);
-        return brandRepository.save(brand);
+        Brand saved = saveUnique(() -> brandRepository.saveAndFlush(brand), "Brand name already in use: " + brandName);
+        eventPublisher.publishEvent(CatalogChangedEvent.brandSaved(saved, productRepository.findCategoryNamesByBrandId(brandId)));
+        return saved;
     }
 
     @Override
     @Transactional
     public void deleteBrand(Long brandId) {
-        if (!brandRepository.existsById(brandId)) {
+        // 상품 수와 관계없이 조회 1번, 삭제 2번으로 끝나며, 브랜드가 없으면 예외로 상품 삭제까지 롤백됩니다.
+        List<String> categoryNames = productRepository.findCategoryNamesByBrandId(brandId);
+        productRepository.deleteInBulkByBrandId(brandId);
+        if (brandRepository.deleteInBulkById(brandId) == 0) {
             throw new ResourceNotFoundException("Brand not found with id: " + brandId);
         }
-        brandRepository.deleteById(brandId);
+        eventPublisher.publishEvent(CatalogChangedEvent.brandDeleted(brandId, categoryNames));
     }
 
     @Override
+    @Transactional
+    public ProductDto addProduct(ProductDto request) {
+        validateProduct(request);
+        Brand brand = findBrand(request.getBrand());
+        Category category = findCategory(request.getCategory());
+
+        Product saved = saveUnique(() -> productRepository.saveAndFlush(new Product(null, brand, category, request.getPrice())),
+                "Product already exists: " + brand.getName() + "/" + category.getName());
+        eventPublisher.publishEvent(CatalogChangedEvent.productsChanged(List.of(CatalogChangedEvent.ProductChange.saved(saved))));
+        return ProductDto.from(saved);
+    }
+
+    @Override
+    @Transactional
+    public ProductDto updateProduct(Long productId, ProductDto request) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + productId));
+        validateProduct(request);
+        Brand brand = findBrand(request.getBrand());
+        Category category = findCategory(request.getCategory());
+
+        List<CatalogChangedEvent.ProductChange> changes = new ArrayList<>();
+        boolean moved = !product.getBrand().getId().equals(brand.getId())
+                || !product.getCategory().getId().equals(category.getId());
+        if (moved) {
+            changes.add(CatalogChangedEvent.ProductChange.removed(product));
+        }
+
+        product.setBrand(brand);
+        product.setCategory(category);
+        product.setPrice(request.getPrice());
+        Product saved = saveUnique(() -> productRepository.saveAndFlush(product),
+                "Product already exists: " + brand.getName() + "/" + category.getName());
+        changes.add(CatalogChangedEvent.ProductChange.saved(saved));
+        eventPublisher.publishEvent(CatalogChangedEvent.productsChanged(changes));
+        return ProductDto.from(saved);
+    }
+
+    @Override
+    @Transactional
+    public void deleteProduct(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + productId));
+        productRepository.delete(product);
+        eventPublisher.publishEvent(CatalogChangedEvent.productsChanged(List.of(CatalogChangedEvent.ProductChange.removed(product))));
+    }
+
+    /**
+     * 여러 (브랜드, 카테고리, 가격) 행을 한 트랜잭션에서 추가하거나 수정합니다.
+     * 브랜드/카테고리 이름과 기존 상품은 IN 쿼리 몇 번으로 메모리에 올려 두고,
+     * 추가/수정 SQL은 hibernate.jdbc.batch_size 단위의 JDBC 배치로 실행됩니다.
+     */
+    @Override
+    @Transactional
+    public ProductBatchResultDto upsertProducts(List<ProductDto> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidInputException("No products to upsert");
+        }
+        Set<String> brandNames = new HashSet<>();
+        Set<String> categoryNames = new HashSet<>();
+        for (ProductDto request : requests) {
+            validateProduct(request);
+            brandNames.add(request.getBrand());
+            categoryNames.add(request.getCategory());
+        }
+
+        Map<String, Brand> brands = brandRepository.findByNameIn(brandNames).stream()
+                .collect(Collectors.toMap(Brand::getName, Function.identity()));
+        Map<String, Category> categories = categoryRepository.findByNameIn(categoryNames).stream()
+                .collect(Collectors.toMap(Category::getName, Function.identity()));
+        brandNames.removeAll(brands.keySet());
+        categoryNames.removeAll(categories.keySet());
+        if (!brandNames.isEmpty()) {
+            throw new ResourceNotFoundException("Brand not found: " + brandNames);
+        }
+        if (!categoryNames.isEmpty()) {
+            throw new ResourceNotFoundException("Category not found: " + categoryNames);
+        }
+
+        Map<ProductKey, Product> products = new HashMap<>();
+        for (Product product : productRepository.findWithBrandAndCategoryByBrandIn(brands.values())) {
+            products.put(new ProductKey(product.getBrand().getId(), product.getCategory().getId()), product);
+        }
+
+        List<Product> inserts = new ArrayList<>();
+        Map<ProductKey, CatalogChangedEvent.ProductChange> changes = new LinkedHashMap<>();
+        Set<ProductKey> updated = new HashSet<>();
+        for (ProductDto request : requests) {
+            Brand brand = brands.get(request.getBrand());
+            Category category = categories.get(request.getCategory());
+            ProductKey key = new ProductKey(brand.getId(), category.getId());
+
+            Product product = products.get(key);
+            if (product == null) {
+                product = new Product(null, brand, category, request.getPrice());
+                products.put(key, product);
+                inserts.add(product);
+            } else {
+                if (product.getId() != null) {
+                    updated.add(key);
+                }
+                // 기존 상품은 변경 감지로 커밋 시점에 배치 UPDATE
+                product.setPrice(request.getPrice());
+            }
+            changes.put(key, CatalogChangedEvent.ProductChange.saved(product));
+        }
+        productRepository.saveAll(inserts);
+
+        eventPublisher.publishEvent(CatalogChangedEvent.productsChanged(new ArrayList<>(changes.values())));
+        return new ProductBatchResultDto(inserts.size(), updated.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CATEGORIES, sync = true, condition = CacheNames.UNLESS_PINNED_TO_PRIMARY)
     public List<String> getAllCategories() {
-        return categoryRepository.findAll().stream()
-                .map(Category::getName)
+        return priceReader.categoryNames();
+    }
+
+    private static LowestPriceBrandsDto toLowestPriceBrandsDto(List<PriceReader.CategoryPrice> lowestPrices) {
+        LowestPriceBrandsDto result = new LowestPriceBrandsDto();
+        List<LowestPriceBrandsDto.CategoryPrice> categoryPrices = new ArrayList<>();
+        long totalPrice = 0;
+
+        for (PriceReader.CategoryPrice lowestPrice : lowestPrices) {
+            LowestPriceBrandsDto.CategoryPrice categoryPrice = new LowestPriceBrandsDto.CategoryPrice();
+            categoryPrice.setCategory(lowestPrice.category());
+            categoryPrice.setBrand(lowestPrice.brand());
+            categoryPrice.setPrice(lowestPrice.price());
+            categoryPrices.add(categoryPrice);
+            totalPrice += lowestPrice.price();
+        }
+
+        result.setCategoryPrices(categoryPrices);
+        result.setTotalPrice(totalPrice);
+        return result;
+    }
+
+    private static LowestPriceBrandDto toLowestPriceBrandDto(PriceReader.BrandTotal lowestPriceBrand) {
+        LowestPriceBrandDto result = new LowestPriceBrandDto();
+        LowestPriceBrandDto.LowestPrice lowestPrice = new LowestPriceBrandDto.LowestPrice();
+        lowestPrice.setBrand(lowestPriceBrand.brand());
+        lowestPrice.setTotalPrice(lowestPriceBrand.totalPrice());
+
+        List<LowestPriceBrandDto.CategoryPrice> categoryPrices = lowestPriceBrand.prices().stream()
+                .map(p -> {
+                    LowestPriceBrandDto.CategoryPrice categoryPrice = new LowestPriceBrandDto.CategoryPrice();
+                    categoryPrice.setCategory(p.category());
+                    categoryPrice.setPrice(p.price());
+                    return categoryPrice;
+                })
                 .collect(Collectors.toList());
+        lowestPrice.setCategories(categoryPrices);
+
+        result.setLowestPrice(lowestPrice);
+        return result;
+    }
+
+    /**
+     * 상품이 없는 카테고리(range의 lowest/highest가 null)는 최저가/최고가를 비워 둡니다.
+     */
+    private static CategoryPriceRangeDto toCategoryPriceRangeDto(String categoryName, PriceReader.PriceRange range) {
+        CategoryPriceRangeDto result = new CategoryPriceRangeDto();
+        result.setCategory(categoryName);
+        if (range.lowest() == null || range.highest() == null) {
+            return result;
+        }
+
+        CategoryPriceRangeDto.BrandPrice lowestPrice = new CategoryPriceRangeDto.BrandPrice();
+        lowestPrice.setBrand(range.lowest().brand());
+        lowestPrice.setPrice(range.lowest().price());
+        result.setLowestPrice(lowestPrice);
+
+        CategoryPriceRangeDto.BrandPrice highestPrice = new CategoryPriceRangeDto.BrandPrice();
+        highestPrice.setBrand(range.highest().brand());
+        highestPrice.setPrice(range.highest().price());
+        result.setHighestPrice(highestPrice);
+
+        return result;
+    }
+
+    /**
+     * 저장 후 바로 flush하여 유니크 제약 위반을 이 트랜잭션 안에서 {@link DuplicateResourceException}으로 바꿉니다.
+     * 먼저 이름을 조회해 보는 방식은 쿼리가 한 번 더 들고, 동시 요청 사이의 경쟁은 막지 못합니다.
+     */
+    private static <T> T saveUnique(Supplier<T> save, String duplicateMessage) {
+        try {
+            return save.get();
+        } catch (DataIntegrityViolationException e) {
+            if (e.getMostSpecificCause() instanceof SQLException sqlException
+                    && UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                throw new DuplicateResourceException(duplicateMessage);
+            }
+            throw e;
+        }
+    }
+
+    private Brand findBrand(String brandName) {
+        return brandRepository.findByName(brandName)
+                .orElseThrow(() -> new ResourceNotFoundException("Brand not found: " + brandName));
+    }
+
+    private Category findCategory(String categoryName) {
+        return categoryRepository.findByName(categoryName)
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found: " + categoryName));
+    }
+
+    private void validateProduct(ProductDto request) {
+        if (request.getBrand() == null || request.getBrand().isBlank()
+                || request.getCategory() == null || request.getCategory().isBlank()) {
+            throw new InvalidInputException("Brand and category are required");
+        }
+        if (request.getPrice() == null || request.getPrice() <= 0) {
+            throw new InvalidInputException("Invalid price: " + request.getPrice());
+        }
+    }
+
+    private record ProductKey(long brandId, long categoryId) {
     }
-}
\ No newline at end of file
+}
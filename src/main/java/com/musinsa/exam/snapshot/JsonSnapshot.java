@@ -0,0 +1,8 @@
+package com.musinsa.exam.snapshot;
+
+/**
+ * 카탈로그 버전별로 미리 직렬화해 둔 UTF-8 JSON 응답 본문과 ETag입니다.
+ * createdNanos는 최대 보관 시간 계산용 {@link System#nanoTime()} 값입니다.
+ */
+public record JsonSnapshot(long version, byte[] body, String etag, long createdNanos) {
+}
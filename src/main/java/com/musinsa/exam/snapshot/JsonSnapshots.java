@@ -0,0 +1,71 @@
+package com.musinsa.exam.snapshot;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.exam.event.CatalogVersion;
+import com.musinsa.exam.replica.PrimaryPin;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 조회 API 응답을 직렬화된 바이트 배열로 보관합니다.
+ * 카탈로그 버전이 바뀐 경우에만 서비스 호출과 JSON 직렬화를 다시 수행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonSnapshots {
+
+    private final CatalogVersion catalogVersion;
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentMap<String, JsonSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 버전이라도 이 시간이 지난 스냅샷은 다시 만듭니다. 0이면 버전이 바뀔 때까지 유지합니다.
+     * 복제본에서 읽는 구성에서는 복제 지연 동안 만든 스냅샷이 계속 남지 않도록 지정합니다.
+     */
+    @Value("${musinsa.snapshot.max-age:0s}")
+    private Duration maxAge;
+
+    public JsonSnapshot get(String key, Supplier<?> loader) {
+        // 변경이 계산 도중 커밋되더라도 이전 버전으로 기록되어 다음 요청에서 다시 생성되도록 먼저 읽음
+        long version = catalogVersion.current();
+        if (PrimaryPin.isPinned()) {
+            // 다른 클라이언트가 복제본에서 읽어 만든 스냅샷을 쓰지 않고, primary에서 읽은 결과도 공유하지 않음
+            return snapshot(version, loader);
+        }
+
+        long now = System.nanoTime();
+        JsonSnapshot snapshot = snapshots.get(key);
+        if (snapshot != null && snapshot.version() == version
+                && (maxAge.isZero() || now - snapshot.createdNanos() < maxAge.toNanos())) {
+            return snapshot;
+        }
+
+        JsonSnapshot regenerated = snapshot(version, loader);
+        snapshots.merge(key, regenerated, (current, candidate) -> candidate.version() >= current.version() ? candidate : current);
+        return regenerated;
+    }
+
+    private JsonSnapshot snapshot(long version, Supplier<?> loader) {
+        long createdNanos = System.nanoTime();
+        byte[] body = serialize(loader.get());
+        return new JsonSnapshot(version, body, DigestUtils.md5DigestAsHex(body), createdNanos);
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.musinsa.exam.benchmark;
+
+import com.musinsa.exam.event.CatalogChangedEvent;
+import com.musinsa.exam.exception.ResourceNotFoundException;
+import com.musinsa.exam.index.PriceIndex;
+import com.musinsa.exam.index.PriceReader;
+import com.musinsa.exam.metrics.SqlStatementCounter;
+import com.musinsa.exam.model.Brand;
+import com.musinsa.exam.model.Product;
+import com.musinsa.exam.repository.BrandRepository;
+import com.musinsa.exam.repository.ProductRepository;
+import com.musinsa.exam.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 상품이 많은 브랜드를 삭제할 때 두 방식의 SQL 문장 수와 소요 시간을 비교합니다.
+ * <ul>
+ *     <li>entity cascade: 상품 엔티티를 모두 읽어 한 건씩 삭제한 뒤 브랜드를 삭제(상품 수에 비례)</li>
+ *     <li>bulk: 현재 구현으로 카테고리 조회, 상품 일괄 DELETE, 브랜드 DELETE(상품 수와 무관하게 3문장)</li>
+ * </ul>
+ * 삭제 대상 브랜드가 모든 카테고리의 최저가를 갖도록 만들어, 삭제 후 가격 인덱스가 다른 브랜드로 바뀌었는지도 확인합니다.
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+class BrandDeleteBenchmarkTest {
+
+    private static final int[] PRODUCT_COUNTS = {10, 100, 1_000};
+    private static final int BULK_STATEMENTS = 3;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PriceIndex priceIndex;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CatalogEventCounter catalogEventCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        CatalogFixture.clear(jdbcTemplate);
+        priceIndex.reload();
+    }
+
+    @Test
+    void deleteBrand_StatementsByProductCount() {
+        System.out.printf("%8s | %18s | %12s | %10s | %10s%n", "products", "cascade statements", "cascade ms", "bulk stmts", "bulk ms");
+
+        for (int productCount : PRODUCT_COUNTS) {
+            Result cascade = measure(productCount, this::entityCascadeDelete);
+            Result bulk = measure(productCount, productService::deleteBrand);
+
+            System.out.printf("%8d | %18d | %12.2f | %10d | %10.2f%n",
+                    productCount, cascade.statements, cascade.millis, bulk.statements, bulk.millis);
+
+            assertEquals(BULK_STATEMENTS, bulk.statements, "상품 수와 관계없이 문장 수가 같아야 합니다");
+            assertEquals(1, bulk.events, "인메모리 상태는 한 번만 갱신되어야 합니다");
+            assertTrue(cascade.statements > bulk.statements);
+        }
+    }
+
+    /**
+     * 없는 브랜드를 삭제하면 예외와 함께 상품 삭제도 롤백되는지 확인합니다.
+     */
+    @Test
+    void deleteBrand_NotFoundRollsBack() {
+        seedCatalog(PRODUCT_COUNTS[0]);
+        long missing = brandRepository.findByName("OTHER").orElseThrow().getId() + 1_000;
+
+        assertThrows(ResourceNotFoundException.class, () -> productService.deleteBrand(missing));
+        assertEquals(PRODUCT_COUNTS[0] * 2L, productRepository.count());
+    }
+
+    /**
+     * 브랜드에 상품 관계를 cascade로 걸었을 때와 같이 상품 엔티티를 한 건씩 삭제하는 방식입니다.
+     */
+    private void entityCascadeDelete(long brandId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Brand brand = brandRepository.findById(brandId).orElseThrow();
+            List<Product> products = productRepository.findByBrand(brand);
+            List<String> categoryNames = products.stream().map(product -> product.getCategory().getName()).toList();
+            productRepository.deleteAll(products);
+            brandRepository.delete(brand);
+            eventPublisher.publishEvent(CatalogChangedEvent.brandDeleted(brandId, categoryNames));
+        });
+    }
+
+    private Result measure(int productCount, LongConsumer deleteBrand) {
+        seedCatalog(productCount);
+        long target = brandRepository.findByName("TARGET").orElseThrow().getId();
+        assertEquals("TARGET", priceIndex.priceRange("CATEGORY-0").orElseThrow().lowest().brand());
+
+        int eventsBefore = catalogEventCounter.count.get();
+        sqlStatementCounter.start();
+        long start = System.nanoTime();
+        deleteBrand.accept(target);
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+        int statements = sqlStatementCounter.stop();
+        int events = catalogEventCounter.count.get() - eventsBefore;
+
+        assertFalse(brandRepository.existsById(target));
+        assertEquals(productCount, productRepository.count());
+        Map<String, PriceReader.PriceRange> ranges = priceIndex.priceRanges(priceIndex.categoryNames());
+        assertEquals(productCount, ranges.size());
+        ranges.values().forEach(range -> assertEquals("OTHER", range.lowest().brand()));
+        return new Result(statements, millis, events);
+    }
+
+    /**
+     * 카테고리를 상품 수만큼 만들고 TARGET(싼 가격)과 OTHER(비싼 가격) 브랜드가 모든 카테고리에 상품을 갖도록 채웁니다.
+     */
+    private void seedCatalog(int categoryCount) {
+        CatalogFixture.seed(jdbcTemplate, CatalogFixture.names("CATEGORY", categoryCount), List.of("TARGET", "OTHER"),
+                "CASE WHEN b.name = 'TARGET' THEN 1000 ELSE 2000 END");
+        priceIndex.reload();
+    }
+
+    private record Result(int statements, double millis, int events) {
+    }
+
+    @TestConfiguration
+    static class EventCounterConfig {
+
+        @Bean
+        CatalogEventCounter catalogEventCounter() {
+            return new CatalogEventCounter();
+        }
+    }
+
+    /**
+     * 발행된 카탈로그 변경 이벤트 수를 셉니다. 인덱스와 캐시는 이벤트마다 한 번씩 갱신됩니다.
+     */
+    static class CatalogEventCounter {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @EventListener
+        void onCatalogChanged(CatalogChangedEvent event) {
+            count.incrementAndGet();
+        }
+    }
+}
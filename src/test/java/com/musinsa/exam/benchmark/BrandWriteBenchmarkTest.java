@@ -0,0 +1,154 @@
+package com.musinsa.exam.benchmark;
+
+import com.musinsa.exam.event.CatalogChangedEvent;
+import com.musinsa.exam.exception.DuplicateResourceException;
+import com.musinsa.exam.model.Brand;
+import com.musinsa.exam.repository.BrandRepository;
+import com.musinsa.exam.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 수백 개의 동시 작성자가 브랜드를 추가할 때 두 방식의 처리량과 결과를 비교합니다.
+ * <ul>
+ *     <li>check-then-insert: 변경 전 방식으로 이름을 먼저 조회한 뒤 저장(쿼리 2번, 경쟁 시 제약 조건 위반이 그대로 전파)</li>
+ *     <li>insert: 현재 구현으로 바로 저장하고 유니크 제약 위반을 중복으로 변환(쿼리 1번)</li>
+ * </ul>
+ * 이름의 10%는 다른 작성자와 겹치도록 만들어 중복 처리 경로도 함께 측정합니다.
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+class BrandWriteBenchmarkTest {
+
+    private static final int WRITERS = 200;
+    private static final int OPERATIONS = 4_000;
+    private static final int DISTINCT_NAMES = OPERATIONS * 9 / 10;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM BRAND");
+    }
+
+    @Test
+    void addBrand_ThroughputUnderContention() throws Exception {
+        Result legacy = null;
+        Result current = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            legacy = best(legacy, run("legacy-" + round, this::checkThenInsert));
+            current = best(current, run("current-" + round, productService::addBrand));
+        }
+
+        System.out.printf("%16s | %10s | %8s | %8s | %10s%n", "path", "writes/s", "created", "409", "unhandled");
+        legacy.print("check-then-insert");
+        current.print("insert");
+
+        assertEquals(DISTINCT_NAMES, current.created);
+        assertEquals(OPERATIONS - DISTINCT_NAMES, current.duplicates);
+        assertEquals(0, current.unhandled, "모든 충돌은 409로 변환되어야 합니다");
+        assertTrue(current.throughput > legacy.throughput, "조회 없이 저장하는 방식의 처리량이 더 높아야 합니다");
+    }
+
+    /**
+     * 변경 전 ProductServiceImpl.addBrand()의 처리 방식입니다.
+     */
+    private void checkThenInsert(String brandName) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (brandRepository.findByName(brandName).isPresent()) {
+                throw new DuplicateResourceException("Brand already exists: " + brandName);
+            }
+            Brand brand = new Brand();
+            brand.setName(brandName);
+            Brand saved = brandRepository.save(brand);
+            eventPublisher.publishEvent(CatalogChangedEvent.brandSaved(saved, List.of()));
+        });
+    }
+
+    private Result run(String prefix, Consumer<String> addBrand) throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        AtomicInteger unhandled = new AtomicInteger();
+        AtomicInteger next = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>(WRITERS);
+            for (int w = 0; w < WRITERS; w++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = next.getAndIncrement(); i < OPERATIONS; i = next.getAndIncrement()) {
+                        try {
+                            addBrand.accept(prefix + "-" + (i % DISTINCT_NAMES));
+                            created.incrementAndGet();
+                        } catch (DuplicateResourceException | ConcurrencyFailureException e) {
+                            duplicates.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            unhandled.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            double seconds = (System.nanoTime() - started) / 1e9;
+            return new Result(OPERATIONS / seconds, created.get(), duplicates.get(), unhandled.get());
+        } finally {
+            executor.shutdownNow();
+            jdbcTemplate.update("DELETE FROM BRAND");
+        }
+    }
+
+    private static Result best(Result a, Result b) {
+        return a == null || b.throughput > a.throughput ? b : a;
+    }
+
+    private record Result(double throughput, int created, int duplicates, int unhandled) {
+
+        void print(String path) {
+            System.out.printf("%16s | %10.0f | %8d | %8d | %10d%n", path, throughput, created, duplicates, unhandled);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.musinsa.exam.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 카탈로그를 JDBC로 직접 채우고 비웁니다. 엔티티를 거치지 않으므로 수천 개 브랜드도 몇 문장으로 적재합니다.
+ * id는 엔티티와 같은 시퀀스에서 발급받아 이후 애플리케이션이 저장하는 행과 겹치지 않습니다.
+ */
+final class CatalogFixture {
+
+    /**
+     * 브랜드와 카테고리 id로 1000 ~ 9999원 사이에 고르게 흩어진 가격을 만드는 SQL 식입니다.
+     */
+    static final String SPREAD_PRICE = "1000 + MOD(b.id * 7919 + c.id * 104729, 9000)";
+
+    private CatalogFixture() {
+    }
+
+    /**
+     * 기존 카탈로그를 지우고, 모든 브랜드가 모든 카테고리에 상품을 하나씩 갖도록 채웁니다.
+     *
+     * @param priceExpression 브랜드 {@code b}와 카테고리 {@code c}의 컬럼으로 상품 가격을 계산하는 SQL 식
+     */
+    static void seed(JdbcTemplate jdbcTemplate, List<String> categories, List<String> brands, String priceExpression) {
+        clear(jdbcTemplate);
+        jdbcTemplate.batchUpdate("INSERT INTO CATEGORY (id, name) VALUES (NEXT VALUE FOR CATEGORY_SEQ, ?)", rows(categories));
+        jdbcTemplate.batchUpdate("INSERT INTO BRAND (id, name) VALUES (NEXT VALUE FOR BRAND_SEQ, ?)", rows(brands));
+        jdbcTemplate.update("INSERT INTO PRODUCT (id, brand_id, category_id, price) " +
+                "SELECT NEXT VALUE FOR PRODUCT_SEQ, b.id, c.id, " + priceExpression + " FROM BRAND b CROSS JOIN CATEGORY c");
+    }
+
+    static void clear(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("DELETE FROM PRODUCT");
+        jdbcTemplate.update("DELETE FROM BRAND");
+        jdbcTemplate.update("DELETE FROM CATEGORY");
+    }
+
+    /**
+     * {@code prefix-0}부터 {@code prefix-(count-1)}까지의 이름입니다.
+     */
+    static List<String> names(String prefix, int count) {
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(prefix + "-" + i);
+        }
+        return names;
+    }
+
+    private static List<Object[]> rows(List<String> names) {
+        List<Object[]> rows = new ArrayList<>(names.size());
+        for (String name : names) {
+            rows.add(new Object[]{name});
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,213 @@
+package com.musinsa.exam.benchmark;
+
+import com.musinsa.exam.model.Category;
+import com.musinsa.exam.model.Product;
+import com.musinsa.exam.repository.CategoryRepository;
+import com.musinsa.exam.repository.ProductRepository;
+import com.musinsa.exam.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 카테고리별 최저가 조회를 DB 왕복 지연이 있는 환경에서 세 가지 방식으로 비교합니다.
+ * <ul>
+ *     <li>sequential: 변경 전 방식으로 카테고리마다 최저가 상품을 순서대로 조회</li>
+ *     <li>fan-out: 같은 조회를 제한된 스레드 풀에서 동시에 실행하고 호출마다 타임아웃을 둔 뒤 카테고리 순서로 병합</li>
+ *     <li>single query: 현재 구현(윈도 함수 쿼리 한 번)</li>
+ * </ul>
+ * 지연은 커넥션에서 문장을 준비할 때마다 {@link #LATENCY_MILLIS}만큼 대기하는 방식으로 흉내 냅니다.
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "musinsa.pricing.source=database",
+        "spring.cache.type=none"
+})
+@ActiveProfiles("test")
+class CategoryFanOutBenchmarkTest {
+
+    private static final int[] CATEGORY_COUNTS = {8, 32, 128};
+    private static final int BRAND_COUNT = 100;
+    private static final long LATENCY_MILLIS = 5;
+    private static final int FAN_OUT_THREADS = 8;
+    private static final long CALL_TIMEOUT_MILLIS = 1_000;
+    private static final int ITERATIONS = 5;
+
+    private static volatile long latencyNanos;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        latencyNanos = 0;
+        CatalogFixture.clear(jdbcTemplate);
+    }
+
+    @Test
+    void lowestPriceBrands_LatencyByCategoryCount() {
+        ExecutorService executor = Executors.newFixedThreadPool(FAN_OUT_THREADS);
+        try {
+            System.out.printf("%10s | %14s | %14s | %14s%n", "categories", "sequential ms", "fan-out ms", "single ms");
+
+            for (int categoryCount : CATEGORY_COUNTS) {
+                seedCatalog(categoryCount);
+                latencyNanos = TimeUnit.MILLISECONDS.toNanos(LATENCY_MILLIS);
+
+                Result sequential = measure(this::sequentialLowestTotal);
+                Result fanOut = measure(() -> fanOutLowestTotal(executor));
+                Result single = measure(() -> productService.getLowestPriceBrands().getTotalPrice());
+
+                latencyNanos = 0;
+                System.out.printf("%10d | %14.2f | %14.2f | %14.2f%n",
+                        categoryCount, sequential.millis, fanOut.millis, single.millis);
+
+                assertEquals(sequential.answer, fanOut.answer);
+                assertEquals(sequential.answer, single.answer);
+                assertTrue(fanOut.millis < sequential.millis, "병렬 조회가 순차 조회보다 빨라야 합니다");
+                if (categoryCount > FAN_OUT_THREADS) {
+                    assertTrue(single.millis < fanOut.millis, "카테고리 수가 스레드 수를 넘으면 단일 쿼리가 병렬 조회보다 빨라야 합니다");
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 변경 전 ProductServiceImpl.getLowestPriceBrands()의 조회 방식입니다.
+     */
+    private long sequentialLowestTotal() {
+        long totalPrice = 0;
+        for (Category category : categoryRepository.findAll()) {
+            Product product = productRepository.findTopByCategoryOrderByPriceAsc(category);
+            if (product != null) {
+                totalPrice += product.getPrice();
+            }
+        }
+        return totalPrice;
+    }
+
+    /**
+     * 카테고리별 조회를 동시에 실행하고, 결과는 완료 순서와 무관하게 카테고리 순서로 합칩니다.
+     * 한 호출이라도 타임아웃을 넘기면 전체 조회가 실패합니다.
+     */
+    private long fanOutLowestTotal(ExecutorService executor) {
+        List<CompletableFuture<Product>> lookups = new ArrayList<>();
+        for (Category category : categoryRepository.findAll()) {
+            lookups.add(CompletableFuture
+                    .supplyAsync(() -> productRepository.findTopByCategoryOrderByPriceAsc(category), executor)
+                    .orTimeout(CALL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        }
+
+        long totalPrice = 0;
+        for (CompletableFuture<Product> lookup : lookups) {
+            Product product = lookup.join();
+            if (product != null) {
+                totalPrice += product.getPrice();
+            }
+        }
+        return totalPrice;
+    }
+
+    private Result measure(LongSupplier call) {
+        long answer = call.getAsLong();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.getAsLong();
+        }
+        return new Result(answer, (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS);
+    }
+
+    private void seedCatalog(int categoryCount) {
+        CatalogFixture.seed(jdbcTemplate, CatalogFixture.names("CATEGORY", categoryCount), CatalogFixture.names("BRAND", BRAND_COUNT),
+                CatalogFixture.SPREAD_PRICE);
+    }
+
+    private record Result(long answer, double millis) {
+    }
+
+    @TestConfiguration
+    static class LatencyConfig {
+
+        /**
+         * 커넥션이 문장을 준비할 때마다 지연을 주어 원격 DB의 왕복 시간을 흉내 냅니다.
+         */
+        @Bean
+        static BeanPostProcessor latencyDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new LatencyDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    private static final class LatencyDataSource extends DelegatingDataSource {
+
+        private LatencyDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return withLatency(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return withLatency(super.getConnection(username, password));
+        }
+
+        private static Connection withLatency(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("prepare") && latencyNanos > 0) {
+                            LockSupport.parkNanos(latencyNanos);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.musinsa.exam.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 동시 요청 수를 일정하게 유지하며 GET 요청을 보내고 처리량과 지연 시간 분위수를 계산하는 부하 생성기입니다.
+ * 비동기 HTTP 클라이언트를 사용하므로 수천 개의 동시 연결도 적은 수의 스레드로 유지합니다.
+ */
+final class HttpLoad {
+
+    private HttpLoad() {
+    }
+
+    static Result run(URI uri, int concurrency, int warmupRequests, int requests) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        send(client, uri, concurrency, warmupRequests);
+
+        long start = System.nanoTime();
+        long[] latencies = send(client, uri, concurrency, requests);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        int errors = (int) Arrays.stream(latencies).filter(latency -> latency < 0).count();
+        long[] sorted = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+        return new Result((requests - errors) / seconds, percentile(sorted, 0.50), percentile(sorted, 0.99), errors);
+    }
+
+    /**
+     * 요청별 지연 시간(ns)을 반환합니다. 실패하거나 200이 아닌 요청은 -1입니다.
+     */
+    private static long[] send(HttpClient client, URI uri, int concurrency, int requests) throws InterruptedException {
+        long[] latencies = new long[requests];
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+        Semaphore inFlight = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(requests);
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            inFlight.acquire();
+            long start = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                latencies[index] = error == null && response.statusCode() == 200 ? System.nanoTime() - start : -1;
+                inFlight.release();
+                done.countDown();
+            });
+        }
+        done.await();
+        return latencies;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    record Result(double throughput, double p50, double p99, int errors) {
+
+        void print(String label) {
+            System.out.printf("%16s | %10.0f %10.2f %10.2f %8d%n", label, throughput, p50, p99, errors);
+        }
+
+        static void printHeader() {
+            System.out.printf("%16s | %10s %10s %10s %8s%n", "mode", "req/s", "p50 ms", "p99 ms", "errors");
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.musinsa.exam.benchmark;
+
+import com.musinsa.exam.dto.LowestPriceBrandDto;
+import com.musinsa.exam.model.Brand;
+import com.musinsa.exam.model.Product;
+import com.musinsa.exam.repository.BrandRepository;
+import com.musinsa.exam.repository.ProductRepository;
+import com.musinsa.exam.service.ProductService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단일 브랜드 최저가 조회의 브랜드 수 대비 쿼리 수와 지연 시간을 측정합니다.
+ * 기존 방식(브랜드 전체 조회 후 브랜드마다 상품 조회)과, GROUP BY 집계로 고른 브랜드의 카테고리별 가격까지
+ * 네이티브 쿼리 한 번으로 읽는 현재 방식({@code ProductRepository.findCheapestBrandPrices})을 비교합니다.
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "musinsa.pricing.source=database",
+        "spring.cache.type=none",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+class LowestPriceBrandBenchmarkTest {
+
+    private static final int[] BRAND_COUNTS = {10, 100, 1000, 5000};
+    private static final List<String> CATEGORIES = List.of("상의", "아우터", "바지", "스니커즈", "가방", "모자", "양말", "액세서리");
+    private static final int ITERATIONS = 5;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        CatalogFixture.clear(jdbcTemplate);
+    }
+
+    @Test
+    void lowestPriceBrand_QueryCountAndLatencyByBrandCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Set<Long> aggregateStatementCounts = new HashSet<>();
+        System.out.printf("%8s | %14s %12s | %14s %12s%n",
+                "brands", "legacy stmts", "legacy ms", "aggregate stmts", "aggregate ms");
+
+        for (int brandCount : BRAND_COUNTS) {
+            seedCatalog(brandCount);
+
+            Result legacy = measure(statistics, () -> readOnly.execute(status -> legacyLowestPriceBrand()));
+            Result aggregate = measure(statistics, () -> {
+                LowestPriceBrandDto.LowestPrice lowestPrice = productService.getLowestPriceBrand().getLowestPrice();
+                return lowestPrice.getBrand() + ":" + lowestPrice.getTotalPrice();
+            });
+
+            System.out.printf("%8d | %14d %12.2f | %14d %12.2f%n", brandCount,
+                    legacy.statements, legacy.millis, aggregate.statements, aggregate.millis);
+
+            assertEquals(legacy.answer, aggregate.answer);
+            aggregateStatementCounts.add(aggregate.statements);
+        }
+
+        assertEquals(1, aggregateStatementCounts.size(), "집계 쿼리의 SQL 실행 횟수는 브랜드 수와 무관해야 합니다");
+    }
+
+    /**
+     * 변경 전 ProductServiceImpl.getLowestPriceBrand()의 조회 방식입니다.
+     */
+    private String legacyLowestPriceBrand() {
+        Brand lowestPriceBrand = null;
+        int lowestTotalPrice = Integer.MAX_VALUE;
+        for (Brand brand : brandRepository.findAll()) {
+            int totalPrice = productRepository.findByBrand(brand).stream().mapToInt(Product::getPrice).sum();
+            if (totalPrice < lowestTotalPrice) {
+                lowestTotalPrice = totalPrice;
+                lowestPriceBrand = brand;
+            }
+        }
+        return lowestPriceBrand.getName() + ":" + lowestTotalPrice;
+    }
+
+    private Result measure(Statistics statistics, Supplier<String> call) {
+        String answer = call.get();
+
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.get();
+        }
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+        return new Result(answer, statistics.getPrepareStatementCount() / ITERATIONS, millis);
+    }
+
+    private void seedCatalog(int brandCount) {
+        CatalogFixture.seed(jdbcTemplate, CATEGORIES, CatalogFixture.names("BRAND", brandCount), CatalogFixture.SPREAD_PRICE);
+    }
+
+    private record Result(String answer, long statements, double millis) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.musinsa.exam.benchmark;
+
+import com.musinsa.exam.dto.OutfitRequestDto;
+import com.musinsa.exam.index.PriceIndex;
+import com.musinsa.exam.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 브랜드 10,000개 x 카테고리 8개에서 코디 계산의 조건별 지연 시간을 측정합니다.
+ * 모든 조건에서 p99가 50ms 미만이어야 합니다.
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.cache.type=none")
+@ActiveProfiles("test")
+class OutfitOptimizerBenchmarkTest {
+
+    private static final int BRAND_COUNT = 10_000;
+    private static final List<String> CATEGORIES = List.of("상의", "아우터", "바지", "스니커즈", "가방", "모자", "양말", "액세서리");
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+    private static final double P99_LIMIT_MILLIS = 50;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private PriceIndex priceIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        CatalogFixture.clear(jdbcTemplate);
+        priceIndex.reload();
+    }
+
+    @Test
+    void optimizeOutfit_LatencyByConstraint() {
+        seedCatalog();
+        priceIndex.reload();
+
+        Map<String, OutfitRequestDto> scenarios = new LinkedHashMap<>();
+        scenarios.put("unconstrained", new OutfitRequestDto(null, null, null, null));
+        scenarios.put("max 1 brand", new OutfitRequestDto(1, null, null, null));
+        scenarios.put("max 2 brands", new OutfitRequestDto(2, null, null, null));
+        scenarios.put("max 3 brands", new OutfitRequestDto(3, null, null, null));
+        scenarios.put("max 3, include 2", new OutfitRequestDto(3, null, List.of("BRAND-1", "BRAND-2"), null));
+        scenarios.put("max 2, exclude, budget", new OutfitRequestDto(2, List.of("BRAND-3", "BRAND-4"), null,
+                Map.of("상의", 3000, "바지", 3000)));
+
+        System.out.printf("%-24s | %10s | %10s | %10s%n", "scenario", "avg ms", "p99 ms", "total");
+        for (Map.Entry<String, OutfitRequestDto> scenario : scenarios.entrySet()) {
+            for (int i = 0; i < WARMUP; i++) {
+                productService.optimizeOutfit(scenario.getValue());
+            }
+
+            double[] millis = new double[ITERATIONS];
+            long totalPrice = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                long start = System.nanoTime();
+                totalPrice = productService.optimizeOutfit(scenario.getValue()).getTotalPrice();
+                millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+            }
+            Arrays.sort(millis);
+            double p99 = millis[(int) Math.ceil(ITERATIONS * 0.99) - 1];
+            System.out.printf("%-24s | %10.2f | %10.2f | %10d%n",
+                    scenario.getKey(), Arrays.stream(millis).average().orElse(0), p99, totalPrice);
+
+            assertTrue(p99 < P99_LIMIT_MILLIS, scenario.getKey() + " p99 " + p99 + "ms");
+        }
+    }
+
+    private void seedCatalog() {
+        CatalogFixture.seed(jdbcTemplate, CATEGORIES, CatalogFixture.names("BRAND", BRAND_COUNT), CatalogFixture.SPREAD_PRICE);
+    }
+}
@@ -0,0 +1,51 @@
+package com.musinsa.exam.benchmark;
+
+import com.musinsa.exam.MusinsaExamApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 기본 프로필(SQL 로그 출력)과 prod 프로필의 처리량과 p99 지연 시간을 같은 부하로 비교합니다.
+ * 매 요청이 SQL을 실행하도록 database 조회 방식과 캐시 없음으로 실행하고 /api/categories를 호출합니다.
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class ProfileLoadBenchmarkTest {
+
+    private static final int CONCURRENCY = 32;
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int REQUESTS = 20_000;
+
+    @Test
+    void compareDefaultAndProdProfiles() throws Exception {
+        HttpLoad.Result defaultProfile = run();
+        HttpLoad.Result prodProfile = run("prod");
+
+        HttpLoad.Result.printHeader();
+        defaultProfile.print("default");
+        prodProfile.print("prod");
+
+        assertEquals(0, defaultProfile.errors());
+        assertEquals(0, prodProfile.errors());
+    }
+
+    private HttpLoad.Result run(String... profiles) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MusinsaExamApplication.class)
+                .profiles(profiles)
+                .run("--server.port=0",
+                        "--musinsa.pricing.source=database",
+                        "--spring.cache.type=none")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            return HttpLoad.run(URI.create("http://localhost:" + port + "/api/categories"),
+                    CONCURRENCY, WARMUP_REQUESTS, REQUESTS);
+        }
+    }
+}
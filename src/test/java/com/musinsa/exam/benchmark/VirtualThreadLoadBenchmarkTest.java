@@ -0,0 +1,56 @@
+package com.musinsa.exam.benchmark;
+
+import com.musinsa.exam.MusinsaExamApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+
+/**
+ * 플랫폼 스레드(Tomcat 기본 200개)와 가상 스레드 모드의 처리량을 5,000 ~ 10,000개 동시 연결에서 비교합니다.
+ * 요청마다 JDBC 호출이 일어나도록 database 조회 방식과 캐시 없음으로 /api/categories를 호출합니다.
+ * 두 모드 모두 prod 프로필 위에서 실행하며, 커넥션 풀 크기는 가상 스레드 프로필과 같게 맞춥니다.
+ *
+ * 실행: ./gradlew benchmark (운영체제의 열린 파일 수 제한이 동시 연결 수보다 커야 함)
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int[] CONCURRENCY = {5_000, 10_000};
+    private static final int WARMUP_REQUESTS = 10_000;
+    private static final int REQUESTS = 50_000;
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        StringBuilder results = new StringBuilder();
+        for (int concurrency : CONCURRENCY) {
+            HttpLoad.Result platform = run(concurrency, "prod");
+            HttpLoad.Result virtual = run(concurrency, "prod", "virtual-threads");
+            System.out.println("concurrency " + concurrency);
+            HttpLoad.Result.printHeader();
+            platform.print("platform");
+            virtual.print("virtual");
+            results.append(String.format("%d: %.2fx%n", concurrency, virtual.throughput() / platform.throughput()));
+        }
+        System.out.print("virtual/platform throughput\n" + results);
+    }
+
+    private HttpLoad.Result run(int concurrency, String... profiles) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MusinsaExamApplication.class)
+                .profiles(profiles)
+                .run("--server.port=0",
+                        "--server.tomcat.max-connections=10000",
+                        "--server.tomcat.accept-count=1000",
+                        "--spring.datasource.hikari.maximum-pool-size=50",
+                        "--spring.datasource.hikari.minimum-idle=50",
+                        "--musinsa.pricing.source=database",
+                        "--spring.cache.type=none")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            return HttpLoad.run(URI.create("http://localhost:" + port + "/api/categories"),
+                    concurrency, WARMUP_REQUESTS, REQUESTS);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.musinsa.exam.cache;
+
+import com.musinsa.exam.event.CatalogChangedEvent;
+import com.musinsa.exam.model.Brand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogCacheEvictorTest {
+
+    private CacheManager cacheManager;
+    private CatalogCacheEvictor evictor;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheNames.LOWEST_PRICE_BRANDS, CacheNames.LOWEST_PRICE_BRAND,
+                CacheNames.CATEGORY_PRICE_RANGE, CacheNames.CATEGORIES);
+        evictor = new CatalogCacheEvictor(cacheManager);
+
+        cache(CacheNames.LOWEST_PRICE_BRANDS).put(SimpleKey.EMPTY, "brands");
+        cache(CacheNames.LOWEST_PRICE_BRAND).put(SimpleKey.EMPTY, "brand");
+        cache(CacheNames.CATEGORY_PRICE_RANGE).put("상의", "range-1");
+        cache(CacheNames.CATEGORY_PRICE_RANGE).put("하의", "range-2");
+        cache(CacheNames.CATEGORIES).put(SimpleKey.EMPTY, "categories");
+    }
+
+    /**
+     * 상품이 없는 새 브랜드 추가는 단일 브랜드 최저가 캐시만 제거해야 합니다.
+     */
+    @Test
+    void brandWithoutProducts_EvictsOnlyLowestPriceBrand() {
+        evictor.onCatalogChanged(CatalogChangedEvent.brandSaved(new Brand(3L, "C"), List.of()));
+
+        assertNull(cache(CacheNames.LOWEST_PRICE_BRAND).get(SimpleKey.EMPTY));
+        assertNotNull(cache(CacheNames.LOWEST_PRICE_BRANDS).get(SimpleKey.EMPTY));
+        assertNotNull(cache(CacheNames.CATEGORY_PRICE_RANGE).get("상의"));
+        assertNotNull(cache(CacheNames.CATEGORIES).get(SimpleKey.EMPTY));
+    }
+
+    /**
+     * 상품이 있는 브랜드 삭제는 해당 브랜드가 속한 카테고리의 범위 캐시만 제거해야 합니다.
+     */
+    @Test
+    void brandWithProducts_EvictsAffectedCategoriesOnly() {
+        evictor.onCatalogChanged(CatalogChangedEvent.brandDeleted(1L, List.of("상의")));
+
+        assertNull(cache(CacheNames.LOWEST_PRICE_BRAND).get(SimpleKey.EMPTY));
+        assertNull(cache(CacheNames.LOWEST_PRICE_BRANDS).get(SimpleKey.EMPTY));
+        assertNull(cache(CacheNames.CATEGORY_PRICE_RANGE).get("상의"));
+        assertNotNull(cache(CacheNames.CATEGORY_PRICE_RANGE).get("하의"));
+        assertNotNull(cache(CacheNames.CATEGORIES).get(SimpleKey.EMPTY));
+    }
+
+    /**
+     * 대량 적재 후 전체 재적재 이벤트는 카테고리 목록을 포함한 모든 캐시를 비워야 합니다.
+     */
+    @Test
+    void catalogReloaded_ClearsAllCaches() {
+        evictor.onCatalogChanged(CatalogChangedEvent.catalogReloaded());
+
+        assertNull(cache(CacheNames.LOWEST_PRICE_BRAND).get(SimpleKey.EMPTY));
+        assertNull(cache(CacheNames.LOWEST_PRICE_BRANDS).get(SimpleKey.EMPTY));
+        assertNull(cache(CacheNames.CATEGORY_PRICE_RANGE).get("하의"));
+        assertNull(cache(CacheNames.CATEGORIES).get(SimpleKey.EMPTY));
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+}
@@ -0,0 +1,250 @@
+package com.musinsa.exam.cache;
+
+import com.musinsa.exam.dto.DashboardDto;
+import com.musinsa.exam.event.CatalogChangedEvent;
+import com.musinsa.exam.event.CatalogVersion;
+import com.musinsa.exam.exception.ResourceNotFoundException;
+import com.musinsa.exam.index.PriceReader;
+import com.musinsa.exam.replica.PrimaryPin;
+import com.musinsa.exam.service.ProductService;
+import com.musinsa.exam.service.ProductServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SingleFlightAspectTest {
+
+    private static final int CALLERS = 50;
+
+    private CatalogVersion catalogVersion;
+    private MeterRegistry meterRegistry;
+    private SlowAggregate target;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CatalogVersion();
+        meterRegistry = new SimpleMeterRegistry();
+        target = new SlowAggregate();
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        target.release.countDown();
+        executor.shutdownNow();
+    }
+
+    /**
+     * 실행 중인 계산과 같은 인자의 동시 호출은 새로 실행하지 않고 같은 결과를 받는지 확인합니다.
+     */
+    @Test
+    void concurrentCalls_ShareOneExecution() throws Exception {
+        SlowAggregate proxy = proxy(false);
+
+        List<Future<String>> results = callConcurrently(() -> proxy.compute("상의"));
+        target.release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("상의-1", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, target.executions.get());
+        assertEquals(1, calls("executed"));
+        assertEquals(CALLERS - 1, calls("coalesced"));
+    }
+
+    /**
+     * 인자가 다르면 따로 실행되는지 확인합니다.
+     */
+    @Test
+    void differentArguments_ExecuteSeparately() throws Exception {
+        SlowAggregate proxy = proxy(false);
+        target.release.countDown();
+
+        assertEquals("상의-1", proxy.compute("상의"));
+        assertEquals("하의-2", proxy.compute("하의"));
+        assertEquals(2, calls("executed"));
+    }
+
+    /**
+     * 카탈로그 변경이 커밋된 뒤 들어온 호출은 그 전에 시작된 계산에 합류하지 않는지 확인합니다.
+     */
+    @Test
+    void callAfterCatalogChange_DoesNotJoinEarlierExecution() throws Exception {
+        SlowAggregate proxy = proxy(false);
+        Future<String> before = executor.submit(() -> proxy.compute("상의"));
+        assertTrue(target.started.await(5, TimeUnit.SECONDS));
+
+        catalogVersion.onCatalogChanged(CatalogChangedEvent.catalogReloaded());
+        Future<String> after = executor.submit(() -> proxy.compute("상의"));
+        target.release.countDown();
+
+        assertEquals("상의-1", before.get(5, TimeUnit.SECONDS));
+        assertEquals("상의-2", after.get(5, TimeUnit.SECONDS));
+        assertEquals(0, calls("coalesced"));
+    }
+
+    /**
+     * 실행 중 발생한 예외는 합류한 호출에도 그대로 전달되는지 확인합니다.
+     */
+    @Test
+    void failure_PropagatesToCoalescedCalls() throws Exception {
+        SlowAggregate proxy = proxy(false);
+        target.failure = new ResourceNotFoundException("카테고리를 찾을 수 없습니다: 상의");
+
+        List<Future<String>> results = callConcurrently(() -> proxy.compute("상의"));
+        target.release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ResourceNotFoundException.class, e.getCause());
+        }
+        assertEquals(1, target.executions.get());
+    }
+
+    /**
+     * stale-while-revalidate를 켜면 다시 계산하는 동안 들어온 호출은 기다리지 않고 직전 결과를 받는지 확인합니다.
+     */
+    @Test
+    void staleWhileRevalidate_ServesPreviousResultDuringRefresh() throws Exception {
+        SlowAggregate proxy = proxy(true);
+        target.release.countDown();
+        assertEquals("상의-1", proxy.compute("상의"));
+
+        target.release = new CountDownLatch(1);
+        target.started = new CountDownLatch(1);
+        catalogVersion.onCatalogChanged(CatalogChangedEvent.catalogReloaded());
+        Future<String> refresh = executor.submit(() -> proxy.compute("상의"));
+        assertTrue(target.started.await(5, TimeUnit.SECONDS));
+
+        assertEquals("상의-1", proxy.compute("상의"));
+        assertEquals(1, calls("stale"));
+
+        target.release.countDown();
+        assertEquals("상의-2", refresh.get(5, TimeUnit.SECONDS));
+        assertEquals(2, target.executions.get());
+    }
+
+    /**
+     * primary에 고정된 호출은 캐시를 건너뛰므로 고정된 호출끼리 합쳐지고, 복제본에서 읽었을 수 있는 직전 결과는 받지 않는지 확인합니다.
+     */
+    @Test
+    void pinnedCalls_CoalesceWithoutStaleResult() throws Exception {
+        SlowAggregate proxy = proxy(true);
+        target.release.countDown();
+        assertEquals("상의-1", proxy.compute("상의"));
+
+        target.release = new CountDownLatch(1);
+        target.started = new CountDownLatch(1);
+        List<Future<String>> results = callConcurrently(() -> {
+            try (PrimaryPin.Scope ignored = PrimaryPin.pin()) {
+                return proxy.compute("상의");
+            }
+        });
+        target.release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("상의-2", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(2, target.executions.get());
+        assertEquals(0, calls("stale"));
+    }
+
+    /**
+     * 캐시하지 않는 메인 화면 집계는 {@code @Cacheable(sync = true)}의 보호를 받지 못하므로,
+     * 같은 순간 몰린 호출이 가격 데이터 집계를 한 번만 실행하는지 확인합니다.
+     */
+    @Test
+    void uncachedDashboard_LoadsAggregateOnce() throws Exception {
+        PriceReader priceReader = mock(PriceReader.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(priceReader.dashboard()).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return new PriceReader.Dashboard(List.of(), List.of(), null);
+        });
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new ProductServiceImpl(null, null, null, priceReader, mock(ApplicationEventPublisher.class)));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new SingleFlightAspect(catalogVersion, meterRegistry, false));
+        ProductService service = factory.getProxy();
+
+        List<Future<DashboardDto>> results = callConcurrently(started, service::getDashboard);
+        release.countDown();
+
+        for (Future<DashboardDto> result : results) {
+            assertNotNull(result.get(5, TimeUnit.SECONDS));
+        }
+        verify(priceReader, times(1)).dashboard();
+    }
+
+    private SlowAggregate proxy(boolean staleWhileRevalidate) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new SingleFlightAspect(catalogVersion, meterRegistry, staleWhileRevalidate));
+        return factory.getProxy();
+    }
+
+    /**
+     * 첫 호출이 계산을 시작한 뒤 나머지 호출이 모두 합류할 때까지 기다립니다.
+     */
+    private List<Future<String>> callConcurrently(Callable<String> call) throws InterruptedException {
+        return callConcurrently(target.started, call);
+    }
+
+    private <T> List<Future<T>> callConcurrently(CountDownLatch started, Callable<T> call) throws InterruptedException {
+        List<Future<T>> results = new ArrayList<>();
+        results.add(executor.submit(call));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        while (calls("coalesced") < CALLERS - 1) {
+            Thread.onSpinWait();
+        }
+        return results;
+    }
+
+    private double calls(String outcome) {
+        var counter = meterRegistry.find("musinsa.single.flight.calls").tag("outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    static class SlowAggregate {
+
+        final AtomicInteger executions = new AtomicInteger();
+        volatile CountDownLatch started = new CountDownLatch(1);
+        volatile CountDownLatch release = new CountDownLatch(1);
+        volatile RuntimeException failure;
+
+        @SingleFlight
+        public String compute(String key) throws InterruptedException {
+            int execution = executions.incrementAndGet();
+            started.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            if (failure != null) {
+                throw failure;
+            }
+            return key + "-" + execution;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.musinsa.exam.config;
+
+import com.musinsa.exam.cache.CacheNames;
+import com.musinsa.exam.model.Category;
+import com.musinsa.exam.repository.BrandRepository;
+import com.musinsa.exam.repository.CategoryRepository;
+import com.musinsa.exam.repository.ProductRepository;
+import com.musinsa.exam.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "musinsa.pricing.source=database"
+})
+@ActiveProfiles("test")
+class CacheConfigVirtualThreadTest {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        brandRepository.deleteAll();
+        categoryRepository.deleteAll();
+        categoryRepository.save(new Category(null, "상의"));
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    /**
+     * 가상 스레드 모드에서는 모든 캐시가 비동기 Caffeine 캐시로 만들어지고,
+     * {@code sync = true} 조회가 가상 스레드 실행기에서 계산된 값을 캐시에 남기는지 확인합니다.
+     */
+    @Test
+    void cachesUseAsyncModeAndStillServeSyncLookups() {
+        for (String cacheName : CacheNames.ALL) {
+            CaffeineCache cache = (CaffeineCache) cacheManager.getCache(cacheName);
+            assertNotNull(cache.getAsyncCache(), cacheName);
+        }
+
+        assertEquals(List.of("상의"), productService.getAllCategories());
+        assertEquals(List.of("상의"), cacheManager.getCache(CacheNames.CATEGORIES).get(SimpleKey.EMPTY).get());
+    }
+}
@@ -0,0 +1,82 @@
+package com.musinsa.exam.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlLoggingGuardTest {
+
+    private static final String[] LOGGERS = {
+            "org.hibernate",
+            "org.hibernate.SQL",
+            "org.hibernate.orm.jdbc.bind",
+            "org.hibernate.type.descriptor.sql.BasicBinder"
+    };
+
+    // 같은 JVM에서 먼저 실행된 스프링 컨텍스트가 바꾼 로거 레벨을 테스트 동안 덮어쓰고 복원
+    private final Map<String, Level> previousLevels = new HashMap<>();
+
+    private MockEnvironment environment;
+
+    @BeforeEach
+    void setUp() {
+        for (String name : LOGGERS) {
+            previousLevels.put(name, logger(name).getLevel());
+            logger(name).setLevel(null);
+        }
+        logger("org.hibernate").setLevel(Level.INFO);
+        environment = new MockEnvironment();
+    }
+
+    @AfterEach
+    void tearDown() {
+        previousLevels.forEach((name, level) -> logger(name).setLevel(level));
+    }
+
+    /**
+     * SQL 출력과 SQL 로거가 모두 꺼져 있으면 시작을 막지 않아야 합니다.
+     */
+    @Test
+    void quietConfiguration_Passes() {
+        environment.setProperty("spring.jpa.show-sql", "false");
+
+        assertDoesNotThrow(() -> new SqlLoggingGuard(environment).afterPropertiesSet());
+    }
+
+    /**
+     * show-sql이 켜져 있으면 시작을 중단해야 합니다.
+     */
+    @Test
+    void showSql_FailsFast() {
+        environment.setProperty("spring.jpa.show-sql", "true");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> new SqlLoggingGuard(environment).afterPropertiesSet());
+        assertTrue(e.getMessage().contains("spring.jpa.show-sql"));
+    }
+
+    /**
+     * Hibernate SQL 로거가 DEBUG 이하로 설정되어 있으면 시작을 중단해야 합니다.
+     */
+    @Test
+    void sqlDebugLogger_FailsFast() {
+        logger("org.hibernate.SQL").setLevel(Level.DEBUG);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> new SqlLoggingGuard(environment).afterPropertiesSet());
+        assertTrue(e.getMessage().contains("org.hibernate.SQL logger at DEBUG"));
+    }
+
+    private static Logger logger(String name) {
+        return (Logger) LoggerFactory.getLogger(name);
+    }
+}
@@ -0,0 +1,91 @@
+package com.musinsa.exam.controller;
+
+import com.musinsa.exam.index.PriceIndex;
+import com.musinsa.exam.model.Brand;
+import com.musinsa.exam.model.Category;
+import com.musinsa.exam.model.Product;
+import com.musinsa.exam.repository.BrandRepository;
+import com.musinsa.exam.repository.CategoryRepository;
+import com.musinsa.exam.repository.ProductRepository;
+import com.musinsa.exam.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductControllerEtagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PriceIndex priceIndex;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Brand brandA;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        brandRepository.deleteAll();
+        categoryRepository.deleteAll();
+
+        brandA = brandRepository.save(new Brand(null, "A"));
+        Brand brandB = brandRepository.save(new Brand(null, "B"));
+        Category category1 = categoryRepository.save(new Category(null, "상의"));
+        Category category2 = categoryRepository.save(new Category(null, "하의"));
+        productRepository.save(new Product(null, brandA, category1, 10000));
+        productRepository.save(new Product(null, brandA, category2, 20000));
+        productRepository.save(new Product(null, brandB, category1, 15000));
+        productRepository.save(new Product(null, brandB, category2, 25000));
+
+        priceIndex.reload();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    /**
+     * 카탈로그가 바뀌지 않는 동안에는 같은 ETag로 304를 반환하고,
+     * 브랜드 변경이 커밋되면 새 본문과 새 ETag를 반환하는지 검증합니다.
+     */
+    @Test
+    void lowestPriceBrands_NotModifiedUntilCatalogChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/lowest-price-brands"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$['총액']").value(30000))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/lowest-price-brands").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        productService.updateBrand(brandA.getId(), "A_Updated");
+
+        mockMvc.perform(get("/api/lowest-price-brands").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['카테고리별 최저가격'][0]['브랜드']").value("A_Updated"));
+    }
+}
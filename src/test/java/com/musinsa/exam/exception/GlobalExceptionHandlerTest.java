@@ -0,0 +1,33 @@
+package com.musinsa.exam.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    /**
+     * 유니크 키 충돌만 409이고, 다른 제약 조건 위반은 기존 데이터와의 충돌이 아니므로 400인지 확인합니다.
+     */
+    @Test
+    void dataIntegrityViolation_ConflictOnlyForUniqueKey() {
+        assertEquals(HttpStatus.CONFLICT, status("23505"));
+        assertEquals(HttpStatus.BAD_REQUEST, status("23503"));
+        assertEquals(HttpStatus.BAD_REQUEST, status("22001"));
+    }
+
+    private HttpStatus status(String sqlState) {
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("constraint violated",
+                new SQLException("constraint violated", sqlState));
+        return HttpStatus.valueOf(handler.handleDataIntegrityViolationException(
+                ex, new ServletWebRequest(new MockHttpServletRequest())).getStatusCode().value());
+    }
+}
@@ -0,0 +1,119 @@
+package com.musinsa.exam.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.exam.dto.CatalogImportResultDto;
+import com.musinsa.exam.model.Brand;
+import com.musinsa.exam.model.Category;
+import com.musinsa.exam.model.Product;
+import com.musinsa.exam.repository.BrandRepository;
+import com.musinsa.exam.repository.CategoryRepository;
+import com.musinsa.exam.repository.ProductRepository;
+import com.musinsa.exam.repository.projection.ProductKeyRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogImporterTest {
+
+    @Mock
+    private BrandRepository brandRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogImporter catalogImporter;
+
+    @BeforeEach
+    void setUp() {
+        catalogImporter = new CatalogImporter(brandRepository, categoryRepository, productRepository,
+                new TransactionTemplate(transactionManager), eventPublisher, new ObjectMapper());
+        ReflectionTestUtils.setField(catalogImporter, "batchSize", 1000);
+    }
+
+    /**
+     * 배치 트랜잭션이 롤백되어도 새 브랜드/카테고리는 그 전에 별도 트랜잭션으로 커밋되고,
+     * 실패한 배치는 적재 행으로 세지 않아 재적재 이벤트도 발행하지 않는지 확인합니다.
+     */
+    @Test
+    void importCatalog_CommitsNewNamesBeforeBatch() {
+        when(brandRepository.findAll()).thenReturn(List.of());
+        when(categoryRepository.findAll()).thenReturn(List.of());
+        when(brandRepository.save(any(Brand.class))).thenAnswer(invocation -> {
+            Brand brand = invocation.getArgument(0);
+            brand.setId(1L);
+            return brand;
+        });
+        when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> {
+            Category category = invocation.getArgument(0);
+            category.setId(10L);
+            return category;
+        });
+        when(productRepository.saveAll(anyList())).thenThrow(new IllegalStateException("batch failed"));
+
+        assertThrows(IllegalStateException.class,
+                () -> catalogImporter.importCatalog(stream("A,상의,10000"), CatalogFileFormat.CSV));
+
+        InOrder inOrder = inOrder(brandRepository, transactionManager, productRepository);
+        inOrder.verify(brandRepository).save(any(Brand.class));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(productRepository).saveAll(anyList());
+        inOrder.verify(transactionManager).rollback(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    /**
+     * 키 조회가 브랜드 x 카테고리 조합 전체를 돌려주더라도 배치에 있는 조합의 상품만 엔티티로 읽어 수정하는지 확인합니다.
+     */
+    @Test
+    void importCatalog_LoadsOnlyProductsInBatch() {
+        Brand brandA = new Brand(1L, "A");
+        Brand brandB = new Brand(2L, "B");
+        Category top = new Category(10L, "상의");
+        Category bottom = new Category(20L, "하의");
+        Product existing = new Product(100L, brandA, top, 10000);
+        when(brandRepository.findAll()).thenReturn(List.of(brandA, brandB));
+        when(categoryRepository.findAll()).thenReturn(List.of(top, bottom));
+        when(productRepository.findKeysByBrandIdInAndCategoryIdIn(anyCollection(), anyCollection())).thenReturn(List.of(
+                new ProductKeyRow(100L, 1L, 10L),
+                new ProductKeyRow(200L, 2L, 10L)));
+        when(productRepository.findWithBrandAndCategoryByIdIn(List.of(100L))).thenReturn(List.of(existing));
+
+        CatalogImportResultDto result = catalogImporter.importCatalog(stream("A,상의,9000\nB,하의,25000"), CatalogFileFormat.CSV);
+
+        assertEquals(1, result.getUpdated());
+        assertEquals(1, result.getInserted());
+        assertEquals(0, result.getBrandsCreated());
+        assertEquals(9000, existing.getPrice());
+        verify(productRepository).findWithBrandAndCategoryByIdIn(List.of(100L));
+        verify(brandRepository, never()).save(any(Brand.class));
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,113 @@
+package com.musinsa.exam.index;
+
+import com.musinsa.exam.exception.InvalidInputException;
+import com.musinsa.exam.exception.ResourceNotFoundException;
+import com.musinsa.exam.model.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutfitSolverTest {
+
+    private PriceMatrix matrix;
+
+    /**
+     * A는 상의, B는 하의가 싸고 C는 두 카테고리 모두 중간 가격입니다. 모자는 A와 C만 팝니다.
+     */
+    @BeforeEach
+    void setUp() {
+        matrix = new PriceMatrix(List.of(new Category(1L, "상의"), new Category(2L, "하의"), new Category(3L, "모자")), 0);
+        matrix.putBrand(1L, "A");
+        matrix.putBrand(2L, "B");
+        matrix.putBrand(3L, "C");
+        matrix.putProduct(1L, 1L, 1000);
+        matrix.putProduct(1L, 2L, 9000);
+        matrix.putProduct(1L, 3L, 2000);
+        matrix.putProduct(2L, 1L, 9000);
+        matrix.putProduct(2L, 2L, 1000);
+        matrix.putProduct(3L, 1L, 4000);
+        matrix.putProduct(3L, 2L, 4000);
+        matrix.putProduct(3L, 3L, 1500);
+    }
+
+    /**
+     * 제한이 없으면 카테고리별 최저가를 고릅니다(A, B, C).
+     */
+    @Test
+    void solve_Unconstrained() {
+        assertEquals("A,B,C", names(solve(null, Set.of(), Set.of(), Map.of())));
+    }
+
+    /**
+     * 브랜드 하나만 쓸 수 있으면 모든 카테고리를 갖춘 브랜드 중 총액이 가장 낮은 C를 고릅니다.
+     */
+    @Test
+    void solve_SingleBrand() {
+        assertEquals("C,C,C", names(solve(1, Set.of(), Set.of(), Map.of())));
+    }
+
+    /**
+     * 브랜드 두 개까지면 A(상의, 모자) + B(하의) = 4000이 최저입니다.
+     */
+    @Test
+    void solve_AtMostTwoBrands() {
+        assertEquals("A,B,A", names(solve(2, Set.of(), Set.of(), Map.of())));
+    }
+
+    /**
+     * 포함 브랜드는 한 카테고리 이상에 반드시 쓰이고, 제외 브랜드와 예산 초과 상품은 쓰이지 않습니다.
+     */
+    @Test
+    void solve_RequiredExcludedAndBudget() {
+        assertEquals("A,B,C", names(solve(3, Set.of(), Set.of("C"), Map.of())));
+        assertEquals("C,B,C", names(solve(2, Set.of("A"), Set.of("C"), Map.of())));
+        assertEquals("A,C,C", names(solve(2, Set.of("B"), Set.of(), Map.of("모자", 1800))));
+        assertNull(solve(null, Set.of(), Set.of(), Map.of("하의", 500)));
+    }
+
+    /**
+     * int 한계에 가까운 가격을 더해도 비용이 음수로 넘치지 않아 실제로 싼 브랜드를 고르고, 총액도 long으로 계산하는지 확인합니다.
+     */
+    @Test
+    void solve_PricesNearIntLimit() {
+        PriceMatrix large = new PriceMatrix(List.of(new Category(1L, "상의"), new Category(2L, "하의")), 0);
+        large.putBrand(1L, "X");
+        large.putBrand(2L, "Y");
+        large.putProduct(1L, 1L, Integer.MAX_VALUE - 1);
+        large.putProduct(1L, 2L, Integer.MAX_VALUE - 1);
+        large.putProduct(2L, 1L, 1000);
+        large.putProduct(2L, 2L, 1000);
+
+        int[] single = new OutfitSolver(large, new PriceReader.OutfitConstraints(1, Set.of(), Set.of(), Map.of())).solve(1);
+        assertEquals("Y", large.brandName(single[0]));
+        assertEquals("Y", large.brandName(single[1]));
+
+        int[] required = new OutfitSolver(large, new PriceReader.OutfitConstraints(1, Set.of(), Set.of("X"), Map.of())).solve(1);
+        assertEquals(2L * (Integer.MAX_VALUE - 1), PriceIndex.toOutfit(large, required).orElseThrow().totalPrice());
+    }
+
+    @Test
+    void solve_InvalidConstraints() {
+        assertThrows(InvalidInputException.class, () -> solve(2, Set.of("A"), Set.of("A"), Map.of()));
+        assertThrows(InvalidInputException.class, () -> solve(1, Set.of(), Set.of("A", "B"), Map.of()));
+        assertThrows(ResourceNotFoundException.class, () -> solve(2, Set.of(), Set.of("없는브랜드"), Map.of()));
+        assertThrows(ResourceNotFoundException.class, () -> solve(2, Set.of(), Set.of(), Map.of("없는카테고리", 1000)));
+    }
+
+    private int[] solve(Integer maxBrands, Set<String> excluded, Set<String> required, Map<String, Integer> budgets) {
+        return new OutfitSolver(matrix, new PriceReader.OutfitConstraints(maxBrands, excluded, required, budgets)).solve(maxBrands);
+    }
+
+    private String names(int[] chosen) {
+        StringBuilder names = new StringBuilder();
+        for (int brand : chosen) {
+            names.append(names.isEmpty() ? "" : ",").append(matrix.brandName(brand));
+        }
+        return names.toString();
+    }
+}
@@ -0,0 +1,160 @@
+package com.musinsa.exam.index;
+
+import com.musinsa.exam.event.CatalogChangedEvent;
+import com.musinsa.exam.model.Brand;
+import com.musinsa.exam.model.Category;
+import com.musinsa.exam.repository.BrandRepository;
+import com.musinsa.exam.repository.CategoryRepository;
+import com.musinsa.exam.repository.ProductRepository;
+import com.musinsa.exam.repository.projection.ProductPriceRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceIndexTest {
+
+    @Mock
+    private BrandRepository brandRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private PriceIndex priceIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(categoryRepository.findAll(any(Sort.class))).thenReturn(Arrays.asList(
+                new Category(1L, "상의"), new Category(2L, "하의")));
+        when(brandRepository.findAll()).thenReturn(Arrays.asList(
+                new Brand(1L, "A"), new Brand(2L, "B")));
+        when(productRepository.findAllPriceRows()).thenReturn(Arrays.asList(
+                new ProductPriceRow(1L, 1L, 10000),
+                new ProductPriceRow(1L, 2L, 20000),
+                new ProductPriceRow(2L, 1L, 15000),
+                new ProductPriceRow(2L, 2L, 25000)));
+
+        priceIndex = new PriceIndex(brandRepository, categoryRepository, productRepository);
+        priceIndex.reload();
+    }
+
+    /**
+     * 적재 직후 카테고리별 최저가, 가격 범위, 최저 총액 브랜드가 올바른지 확인합니다.
+     */
+    @Test
+    void reload_BuildsIndex() {
+        List<PriceReader.CategoryPrice> lowest = priceIndex.lowestPerCategory();
+
+        assertEquals(List.of("상의", "하의"), priceIndex.categoryNames());
+        assertEquals(new PriceReader.CategoryPrice("상의", "A", 10000), lowest.get(0));
+        assertEquals(new PriceReader.CategoryPrice("하의", "A", 20000), lowest.get(1));
+        assertEquals(new PriceReader.CategoryPrice("상의", "B", 15000), priceIndex.priceRange("상의").orElseThrow().highest());
+        assertEquals("A", priceIndex.cheapestBrand().orElseThrow().brand());
+        assertEquals(30000, priceIndex.cheapestBrand().orElseThrow().totalPrice());
+    }
+
+    /**
+     * 가격 변경이 카테고리 정렬 구조와 브랜드 총액에 모두 반영되는지 확인합니다.
+     */
+    @Test
+    void putProduct_UpdatesPriceInPlace() {
+        priceIndex.putProduct(2L, 1L, 5000);
+
+        assertEquals(new PriceReader.CategoryPrice("상의", "B", 5000), priceIndex.lowestPerCategory().get(0));
+        assertEquals(new PriceReader.CategoryPrice("상의", "A", 10000), priceIndex.priceRange("상의").orElseThrow().highest());
+        assertEquals("B", priceIndex.cheapestBrand().orElseThrow().brand());
+        assertEquals(30000, priceIndex.cheapestBrand().orElseThrow().totalPrice());
+    }
+
+    /**
+     * 브랜드 이름 변경과 삭제 이벤트가 조회 결과에 반영되는지 확인합니다.
+     */
+    @Test
+    void onCatalogChanged_AppliesBrandEvents() {
+        priceIndex.onCatalogChanged(CatalogChangedEvent.brandSaved(new Brand(1L, "A_Updated"), List.of("상의", "하의")));
+        assertEquals("A_Updated", priceIndex.lowestPerCategory().get(0).brand());
+
+        priceIndex.onCatalogChanged(CatalogChangedEvent.brandDeleted(1L, List.of("상의", "하의")));
+        assertEquals(new PriceReader.CategoryPrice("상의", "B", 15000), priceIndex.lowestPerCategory().get(0));
+        assertEquals("B", priceIndex.cheapestBrand().orElseThrow().brand());
+    }
+
+    /**
+     * 상품 변경 이벤트의 추가/수정/삭제가 한 번에 반영되는지 확인합니다.
+     */
+    @Test
+    void onCatalogChanged_AppliesProductChanges() {
+        priceIndex.onCatalogChanged(CatalogChangedEvent.productsChanged(List.of(
+                new CatalogChangedEvent.ProductChange(1L, 1L, "상의", null),
+                new CatalogChangedEvent.ProductChange(2L, 2L, "하의", 3000))));
+
+        assertEquals(new PriceReader.CategoryPrice("상의", "B", 15000), priceIndex.priceRange("상의").orElseThrow().lowest());
+        assertEquals(new PriceReader.CategoryPrice("하의", "B", 3000), priceIndex.lowestPerCategory().get(1));
+        assertEquals(new PriceReader.CategoryPrice("하의", "A", 20000), priceIndex.priceRange("하의").orElseThrow().highest());
+    }
+
+    /**
+     * 존재하지 않는 카테고리는 empty, 상품이 없는 카테고리는 빈 범위를 반환하는지 확인합니다.
+     */
+    @Test
+    void priceRange_UnknownOrEmptyCategory() {
+        assertTrue(priceIndex.priceRange("없는카테고리").isEmpty());
+
+        priceIndex.removeBrand(1L);
+        priceIndex.removeBrand(2L);
+        PriceReader.PriceRange range = priceIndex.priceRange("상의").orElseThrow();
+        assertNull(range.lowest());
+        assertNull(range.highest());
+    }
+
+    /**
+     * 전체 적재가 데이터베이스를 읽은 뒤 교체하기 전에 들어온 상품 변경과 브랜드 삭제가 새 행렬에도 남는지 확인합니다.
+     * 적재가 읽는 행은 변경 전 상태이므로 다시 반영하지 않으면 교체와 함께 사라집니다.
+     */
+    @Test
+    void reload_KeepsChangesAppliedDuringLoad() {
+        when(productRepository.findAllPriceRows()).thenAnswer(invocation -> {
+            Thread writer = new Thread(() -> priceIndex.onCatalogChanged(CatalogChangedEvent.productsChanged(List.of(
+                    new CatalogChangedEvent.ProductChange(2L, 1L, "상의", 5000)))));
+            writer.start();
+            writer.join();
+            priceIndex.removeProduct(1L, 2L);
+            return Arrays.asList(
+                    new ProductPriceRow(1L, 1L, 10000),
+                    new ProductPriceRow(1L, 2L, 20000),
+                    new ProductPriceRow(2L, 1L, 15000),
+                    new ProductPriceRow(2L, 2L, 25000));
+        });
+
+        priceIndex.reload();
+
+        assertEquals(new PriceReader.CategoryPrice("상의", "B", 5000), priceIndex.lowestPerCategory().get(0));
+        assertEquals(new PriceReader.CategoryPrice("하의", "B", 25000), priceIndex.priceRange("하의").orElseThrow().lowest());
+        assertEquals("B", priceIndex.cheapestBrand().orElseThrow().brand());
+        assertEquals(30000, priceIndex.cheapestBrand().orElseThrow().totalPrice());
+    }
+
+    /**
+     * 적재 중 반영한 변경은 그 적재에서만 다시 반영하고, 다음 적재에는 남지 않는지 확인합니다.
+     */
+    @Test
+    void reload_DoesNotReplayChangesFromEarlierLoad() {
+        priceIndex.putProduct(2L, 1L, 5000);
+
+        priceIndex.reload();
+
+        assertEquals(new PriceReader.CategoryPrice("상의", "A", 10000), priceIndex.lowestPerCategory().get(0));
+    }
+}
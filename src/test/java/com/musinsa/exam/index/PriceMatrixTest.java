@@ -0,0 +1,165 @@
+package com.musinsa.exam.index;
+
+import com.musinsa.exam.model.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceMatrixTest {
+
+    private PriceMatrix matrix;
+
+    @BeforeEach
+    void setUp() {
+        matrix = new PriceMatrix(List.of(new Category(10L, "상의"), new Category(20L, "하의")), 0);
+        matrix.putBrand(1L, "A");
+        matrix.putBrand(2L, "B");
+        matrix.putProduct(1L, 10L, 10000);
+        matrix.putProduct(1L, 20L, 20000);
+        matrix.putProduct(2L, 10L, 15000);
+        matrix.putProduct(2L, 20L, 25000);
+    }
+
+    /**
+     * 최저가 브랜드의 가격이 오르면 열을 다시 훑어 최저가/최고가를 바로잡는지 확인합니다.
+     */
+    @Test
+    void putProduct_RescansCategoryWhenExtremeGetsWorse() {
+        matrix.putProduct(1L, 10L, 30000);
+
+        assertEquals("B", matrix.brandName(matrix.lowestBrand(0)));
+        assertEquals("A", matrix.brandName(matrix.highestBrand(0)));
+        assertEquals("B", matrix.brandName(matrix.cheapestBrand()));
+        assertEquals(50000, matrix.total(matrix.highestBrand(0)));
+    }
+
+    /**
+     * 가격이 같으면 최저가와 최고가 모두 브랜드 id가 작은 쪽을 고르는지 확인합니다.
+     */
+    @Test
+    void putProduct_BreaksTiesByBrandId() {
+        matrix.putProduct(2L, 10L, 10000);
+        assertEquals("A", matrix.brandName(matrix.lowestBrand(0)));
+
+        matrix.putProduct(1L, 20L, 25000);
+        assertEquals("A", matrix.brandName(matrix.highestBrand(1)));
+    }
+
+    /**
+     * 커서 다음 위치는 같은 가격의 더 큰 브랜드 id부터이며, 브랜드 id가 {@code Long.MAX_VALUE}여도 처음으로 돌아가지 않는지 확인합니다.
+     */
+    @Test
+    void rankedPositionAfter_SkipsCursorWithoutOverflow() {
+        matrix.putProduct(2L, 10L, 10000);
+
+        assertEquals(1, matrix.rankedPositionAfter(0, 10000, 1L));
+        assertEquals(2, matrix.rankedPositionAfter(0, 10000, 2L));
+        assertEquals(2, matrix.rankedPositionAfter(0, 10000, Long.MAX_VALUE));
+        assertEquals(0, matrix.rankedPositionAfter(0, 9999, Long.MAX_VALUE));
+    }
+
+    /**
+     * 상품 삭제로 카테고리가 빠진 브랜드는 총액이 낮아져도 최저 총액 브랜드 후보에서 제외되는지 확인합니다.
+     */
+    @Test
+    void removeProduct_MarksBrandIncomplete() {
+        assertEquals(0, matrix.incompleteBrandCount());
+        matrix.putProduct(2L, 10L, 1000);
+        assertEquals("B", matrix.brandName(matrix.cheapestBrand()));
+
+        matrix.removeProduct(2L, 20L);
+
+        int brandB = matrix.lowestBrand(0);
+        assertEquals(1, matrix.incompleteBrandCount());
+        assertFalse(matrix.isComplete(brandB));
+        assertEquals(1000, matrix.total(brandB));
+        assertEquals("A", matrix.brandName(matrix.cheapestBrand()));
+        assertEquals(30000, matrix.total(matrix.cheapestBrand()));
+        assertEquals("A", matrix.brandName(matrix.lowestBrand(1)));
+
+        matrix.putProduct(2L, 20L, 1000);
+        assertTrue(matrix.isComplete(brandB));
+        assertEquals("B", matrix.brandName(matrix.cheapestBrand()));
+    }
+
+    /**
+     * 상품이 없는 새 브랜드(총액 0)가 최저 총액 브랜드로 선택되지 않는지 확인합니다.
+     */
+    @Test
+    void putBrand_EmptyBrandIsNotCheapest() {
+        matrix.putBrand(3L, "C");
+        matrix.putProduct(3L, 10L, 100);
+
+        assertEquals("A", matrix.brandName(matrix.cheapestBrand()));
+        assertEquals(1, matrix.incompleteBrandCount());
+
+        matrix.removeBrand(1L);
+        matrix.removeBrand(2L);
+        assertEquals(PriceMatrix.NONE, matrix.cheapestBrand());
+    }
+
+    /**
+     * 삭제된 브랜드의 순번을 새 브랜드가 재사용해도 이전 가격이 남지 않는지 확인합니다.
+     */
+    @Test
+    void removeBrand_ReusesOrdinalWithEmptyRow() {
+        matrix.removeBrand(1L);
+        matrix.putBrand(3L, "C");
+
+        assertEquals(2, matrix.brandCount());
+        assertEquals("B", matrix.brandName(matrix.lowestBrand(0)));
+        assertEquals("B", matrix.brandName(matrix.cheapestBrand()));
+        assertEquals(1, matrix.incompleteBrandCount());
+    }
+
+    /**
+     * 초기 용량을 넘는 브랜드가 들어와도 기존 가격과 집계가 유지되는지 확인합니다.
+     */
+    @Test
+    void putBrand_GrowsBeyondInitialCapacity() {
+        for (long id = 100; id < 200; id++) {
+            matrix.putBrand(id, "BRAND-" + id);
+            matrix.putProduct(id, 10L, 20000 + (int) id);
+            matrix.putProduct(id, 20L, 30000 + (int) id);
+        }
+
+        assertEquals(102, matrix.brandCount());
+        assertEquals("A", matrix.brandName(matrix.lowestBrand(0)));
+        assertEquals("BRAND-199", matrix.brandName(matrix.highestBrand(1)));
+        assertEquals(30000, matrix.total(matrix.cheapestBrand()));
+    }
+
+    @Test
+    void putProduct_UnknownBrandOrCategory() {
+        assertFalse(matrix.putProduct(99L, 10L, 1000));
+        assertFalse(matrix.putProduct(1L, 99L, 1000));
+        assertEquals(PriceMatrix.NONE, matrix.categoryOrdinal("없는카테고리"));
+    }
+
+    /**
+     * 카테고리별 가격 합이 int 범위를 넘어도 총액과 최저 총액 브랜드 비교가 넘치지 않는지 확인합니다.
+     */
+    @Test
+    void putProduct_TotalsBeyondIntRange() {
+        matrix.putProduct(1L, 10L, Integer.MAX_VALUE);
+        matrix.putProduct(1L, 20L, Integer.MAX_VALUE);
+
+        assertEquals(2L * Integer.MAX_VALUE, matrix.total(matrix.highestBrand(0)));
+        assertEquals("B", matrix.brandName(matrix.cheapestBrand()));
+    }
+
+    /**
+     * 가격 0은 상품 없음 표시와 겹치므로 0 이하의 가격은 반영하지 않는지 확인합니다.
+     */
+    @Test
+    void putProduct_RejectsNonPositivePrice() {
+        assertFalse(matrix.putProduct(1L, 10L, 0));
+        assertFalse(matrix.putProduct(1L, 10L, -1));
+
+        assertEquals(10000, matrix.price(0, 0));
+        assertEquals(0, matrix.incompleteBrandCount());
+    }
+}
@@ -0,0 +1,91 @@
+package com.musinsa.exam.integration;
+
+import com.musinsa.exam.exporter.CatalogExporter;
+import com.musinsa.exam.importer.CatalogFileFormat;
+import com.musinsa.exam.model.Brand;
+import com.musinsa.exam.model.Category;
+import com.musinsa.exam.model.Product;
+import com.musinsa.exam.repository.BrandRepository;
+import com.musinsa.exam.repository.CategoryRepository;
+import com.musinsa.exam.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+public class CatalogExportIntegrationTest {
+
+    @Autowired
+    private CatalogExporter catalogExporter;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        brandRepository.deleteAll();
+        categoryRepository.deleteAll();
+
+        Brand brandA = brandRepository.save(new Brand(null, "A"));
+        Brand brandB = brandRepository.save(new Brand(null, "B, Inc."));
+        Category category1 = categoryRepository.save(new Category(null, "상의"));
+
+        productRepository.save(new Product(null, brandA, category1, 10000));
+        productRepository.save(new Product(null, brandB, category1, 15000));
+    }
+
+    /**
+     * CSV 내보내기 테스트
+     *
+     * 목적:
+     * 1. 헤더 다음에 상품이 id 순서로 한 줄씩 출력되는지 검증
+     * 2. 쉼표가 들어간 이름은 따옴표로 감싸지는지 확인
+     */
+    @Test
+    void exportCsv() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long rows = catalogExporter.export(output, CatalogFileFormat.CSV);
+
+        assertEquals(2, rows);
+        assertEquals(List.of("브랜드,카테고리,가격", "A,상의,10000", "\"B, Inc.\",상의,15000"),
+                output.toString(StandardCharsets.UTF_8).lines().toList());
+    }
+
+    /**
+     * NDJSON 내보내기 테스트
+     *
+     * 목적:
+     * 1. 상품 API와 같은 필드 이름의 JSON 객체가 한 줄에 하나씩 출력되는지 검증
+     */
+    @Test
+    void exportNdjson() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        catalogExporter.export(output, CatalogFileFormat.NDJSON);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"브랜드\":\"A\""));
+        assertTrue(lines.get(0).contains("\"가격\":10000"));
+        assertTrue(lines.get(1).contains("\"브랜드\":\"B, Inc.\""));
+    }
+}
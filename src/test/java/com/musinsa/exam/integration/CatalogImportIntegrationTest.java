@@ -0,0 +1,121 @@
+package com.musinsa.exam.integration;
+
+import com.musinsa.exam.dto.CatalogImportResultDto;
+import com.musinsa.exam.exception.InvalidInputException;
+import com.musinsa.exam.importer.CatalogFileFormat;
+import com.musinsa.exam.importer.CatalogImporter;
+import com.musinsa.exam.model.Brand;
+import com.musinsa.exam.model.Category;
+import com.musinsa.exam.model.Product;
+import com.musinsa.exam.repository.BrandRepository;
+import com.musinsa.exam.repository.CategoryRepository;
+import com.musinsa.exam.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "musinsa.import.batch-size=2")
+@Transactional
+@ActiveProfiles("test")
+public class CatalogImportIntegrationTest {
+
+    @Autowired
+    private CatalogImporter catalogImporter;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        brandRepository.deleteAll();
+        categoryRepository.deleteAll();
+
+        Brand brandA = brandRepository.save(new Brand(null, "A"));
+        Category category1 = categoryRepository.save(new Category(null, "상의"));
+        productRepository.save(new Product(null, brandA, category1, 10000));
+    }
+
+    /**
+     * CSV 적재 테스트
+     *
+     * 목적:
+     * 1. 헤더를 건너뛰고 배치 크기(2)를 넘는 행이 여러 배치로 나뉘어 모두 적재되는지 검증
+     * 2. 기존 상품은 가격이 수정되고, 없는 브랜드/카테고리는 새로 만들어지는지 확인
+     * 3. 큰따옴표로 감싼 열의 쉼표는 값으로 취급되는지 확인
+     */
+    @Test
+    void importCsv() {
+        String csv = """
+                브랜드,카테고리,가격
+                A,상의,9000
+                A,하의,20000
+                B,상의,15000
+                "B, Inc.",하의,25000
+                """;
+
+        CatalogImportResultDto result = catalogImporter.importCatalog(stream(csv), CatalogFileFormat.CSV);
+
+        assertEquals(4, result.getRows());
+        assertEquals(3, result.getInserted());
+        assertEquals(1, result.getUpdated());
+        assertEquals(2, result.getBrandsCreated());
+        assertEquals(1, result.getCategoriesCreated());
+        assertEquals(4, productRepository.count());
+        assertTrue(brandRepository.findByName("B, Inc.").isPresent());
+        Brand brandA = brandRepository.findByName("A").orElseThrow();
+        assertEquals(9000, priceOf(brandA, "상의"));
+    }
+
+    /**
+     * NDJSON 적재 테스트
+     *
+     * 목적:
+     * 1. 상품 API와 같은 필드 이름(브랜드/카테고리/가격)의 줄 단위 JSON을 적재하는지 검증
+     * 2. 잘못된 행이 있으면 줄 번호와 함께 입력 오류가 발생하는지 확인
+     */
+    @Test
+    void importNdjson() {
+        String ndjson = """
+                {"브랜드":"A","카테고리":"하의","가격":20000}
+
+                {"브랜드":"C","카테고리":"상의","가격":12000}
+                """;
+
+        CatalogImportResultDto result = catalogImporter.importCatalog(stream(ndjson), CatalogFileFormat.NDJSON);
+
+        assertEquals(2, result.getInserted());
+        assertEquals(3, productRepository.count());
+
+        InvalidInputException e = assertThrows(InvalidInputException.class, () -> catalogImporter.importCatalog(
+                stream("{\"브랜드\":\"A\",\"카테고리\":\"상의\",\"가격\":0}"), CatalogFileFormat.NDJSON));
+        assertTrue(e.getMessage().contains("line 1"));
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private int priceOf(Brand brand, String categoryName) {
+        return productRepository.findByBrand(brand).stream()
+                .filter(product -> product.getCategory().getName().equals(categoryName))
+                .findFirst()
+                .orElseThrow()
+                .getPrice();
+    }
+}
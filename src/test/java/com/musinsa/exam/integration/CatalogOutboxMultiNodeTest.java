@@ -0,0 +1,166 @@
+package com.musinsa.exam.integration;
+
+import com.musinsa.exam.MusinsaExamApplication;
+import com.musinsa.exam.dto.ProductDto;
+import com.musinsa.exam.event.CatalogVersion;
+import com.musinsa.exam.index.PriceIndex;
+import com.musinsa.exam.model.Brand;
+import com.musinsa.exam.model.CatalogOutboxEvent;
+import com.musinsa.exam.outbox.CatalogOutboxPoller;
+import com.musinsa.exam.repository.CatalogOutboxRepository;
+import com.musinsa.exam.service.ProductService;
+import org.h2.tools.Server;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 하나의 H2 서버 모드 데이터베이스를 공유하는 두 애플리케이션 컨텍스트로 아웃박스 전파를 확인합니다.
+ * writer 노드의 변경이 reader 노드의 가격 인덱스, 응답 캐시, 카탈로그 버전에 버전 순서대로 반영되어야 합니다.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CatalogOutboxMultiNodeTest {
+
+    private static final long AWAIT_MILLIS = 5_000;
+
+    private static Server server;
+    private static ConfigurableApplicationContext writer;
+    private static ConfigurableApplicationContext reader;
+
+    @BeforeAll
+    static void startNodes() throws SQLException, IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = Server.createTcpServer("-tcpPort", String.valueOf(port), "-ifNotExists").start();
+        String url = "jdbc:h2:tcp://localhost:" + port + "/mem:outbox;DB_CLOSE_DELAY=-1";
+
+        // 스키마는 먼저 뜨는 노드만 만들고, 두 번째 노드는 그대로 사용
+        writer = startNode(url, "create");
+        JdbcTemplate jdbcTemplate = writer.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO CATEGORY (id, name) VALUES (NEXT VALUE FOR CATEGORY_SEQ, '상의')");
+        jdbcTemplate.update("INSERT INTO CATEGORY (id, name) VALUES (NEXT VALUE FOR CATEGORY_SEQ, '하의')");
+        writer.getBean(PriceIndex.class).reload();
+
+        reader = startNode(url, "none");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (reader != null) {
+            reader.close();
+        }
+        if (writer != null) {
+            writer.close();
+        }
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    /**
+     * writer에서 추가/수정/삭제한 내용이 reader의 캐시된 조회 결과까지 바뀌는지 확인합니다.
+     */
+    @Test
+    @Order(1)
+    void writerChanges_AreAppliedOnReader() {
+        ProductService writerService = writer.getBean(ProductService.class);
+        ProductService readerService = reader.getBean(ProductService.class);
+        long readerVersion = reader.getBean(CatalogVersion.class).current();
+
+        Brand brand = writerService.addBrand("A");
+        writerService.addProduct(new ProductDto(null, "A", "상의", 10000));
+        awaitEquals("A", () -> readerService.getCategoryPriceRange("상의").getLowestPrice().getBrand());
+
+        writerService.addBrand("B");
+        ProductDto cheaper = writerService.addProduct(new ProductDto(null, "B", "상의", 5000));
+        awaitEquals("B", () -> readerService.getCategoryPriceRange("상의").getLowestPrice().getBrand());
+        assertEquals("A", readerService.getCategoryPriceRange("상의").getHighestPrice().getBrand());
+
+        writerService.updateBrand(brand.getId(), "A2");
+        awaitEquals("A2", () -> readerService.getCategoryPriceRange("상의").getHighestPrice().getBrand());
+
+        writerService.deleteProduct(cheaper.getId());
+        awaitEquals("A2", () -> readerService.getCategoryPriceRange("상의").getLowestPrice().getBrand());
+
+        assertTrue(reader.getBean(CatalogVersion.class).current() > readerVersion);
+    }
+
+    /**
+     * 아웃박스 버전은 빈 번호 없이 커밋 순서대로 증가하고, 두 노드 모두 마지막 버전까지 적용해야 합니다.
+     */
+    @Test
+    @Order(2)
+    void outboxVersions_AreContiguous() {
+        ProductService writerService = writer.getBean(ProductService.class);
+        writerService.addBrand("C");
+        writerService.upsertProducts(List.of(
+                new ProductDto(null, "C", "상의", 7000),
+                new ProductDto(null, "C", "하의", 8000)));
+
+        List<Long> versions = writer.getBean(CatalogOutboxRepository.class).findAll().stream()
+                .map(CatalogOutboxEvent::getVersion)
+                .sorted()
+                .toList();
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(i + 1, versions.get(i));
+        }
+
+        long last = versions.get(versions.size() - 1);
+        awaitEquals(last, () -> reader.getBean(CatalogOutboxPoller.class).appliedVersion());
+        awaitEquals(last, () -> writer.getBean(CatalogOutboxPoller.class).appliedVersion());
+        awaitEquals(15000L, () -> reader.getBean(ProductService.class).getLowestPriceBrand().getLowestPrice().getTotalPrice());
+    }
+
+    private static ConfigurableApplicationContext startNode(String url, String ddlAuto) {
+        return new SpringApplicationBuilder(MusinsaExamApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.datasource.url=" + url,
+                        "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "--spring.jmx.enabled=false",
+                        "--musinsa.outbox.enabled=true",
+                        "--musinsa.outbox.poll-interval=50");
+    }
+
+    /**
+     * reader가 아직 따라잡지 못해 조회가 실패하거나 값이 다르면 제한 시간까지 다시 시도합니다.
+     */
+    private static <T> void awaitEquals(T expected, Supplier<T> actual) {
+        long deadline = System.currentTimeMillis() + AWAIT_MILLIS;
+        Object last = null;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                last = actual.get();
+                if (expected.equals(last)) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                last = e;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("interrupted");
+            }
+        }
+        assertEquals(expected, last);
+    }
+}
@@ -0,0 +1,157 @@
+package com.musinsa.exam.integration;
+
+import com.musinsa.exam.dto.ProductDto;
+import com.musinsa.exam.model.Brand;
+import com.musinsa.exam.model.Category;
+import com.musinsa.exam.model.Product;
+import com.musinsa.exam.repository.BrandRepository;
+import com.musinsa.exam.repository.CategoryRepository;
+import com.musinsa.exam.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 수백 개의 요청을 동시에 보내 중복 검사와 낙관적 잠금이 HTTP 응답까지 올바르게 이어지는지 확인합니다.
+ * 모든 요청은 200 또는 409로 끝나야 하며, 500(처리되지 않은 제약 조건 위반)이 나오면 안 됩니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ConcurrentWriteIntegrationTest {
+
+    private static final int WRITERS = 200;
+    private static final int BRAND_NAMES = 20;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        clear();
+        Brand brand = brandRepository.save(new Brand(null, "BASE"));
+        Category category = categoryRepository.save(new Category(null, "상의"));
+        product = productRepository.save(new Product(null, brand, category, 500));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    /**
+     * 같은 이름마다 10개의 요청이 동시에 들어와도 이름마다 정확히 한 요청만 성공하고 나머지는 409여야 합니다.
+     */
+    @Test
+    void addBrand_ConcurrentDuplicates_Return409() throws Exception {
+        List<HttpStatus> statuses = runConcurrently(i -> () -> HttpStatus.valueOf(restTemplate
+                .postForEntity("/api/brand", "BRAND-" + (i % BRAND_NAMES), String.class)
+                .getStatusCode().value()));
+
+        Map<HttpStatus, Integer> counts = count(statuses);
+        assertEquals(Set.of(HttpStatus.OK, HttpStatus.CONFLICT), counts.keySet());
+        assertEquals(BRAND_NAMES, counts.get(HttpStatus.OK));
+        assertEquals(WRITERS - BRAND_NAMES, counts.get(HttpStatus.CONFLICT));
+        assertEquals(BRAND_NAMES + 1, brandRepository.count());
+    }
+
+    /**
+     * 같은 상품의 가격을 동시에 수정하면 버전이 맞지 않는 요청은 409로 거부되어야 합니다.
+     * 성공 응답 수만큼 버전이 증가하고 최종 가격이 성공한 요청 중 하나의 값이면 덮어써져 사라진 수정이 없는 것입니다.
+     */
+    @Test
+    void updateProduct_Concurrent_NoLostUpdates() throws Exception {
+        long initialVersion = productRepository.findById(product.getId()).orElseThrow().getVersion();
+        Set<Integer> acceptedPrices = ConcurrentHashMap.newKeySet();
+
+        List<HttpStatus> statuses = runConcurrently(i -> () -> {
+            int price = 1000 + i;
+            HttpStatus status = HttpStatus.valueOf(restTemplate.exchange("/api/product/" + product.getId(), HttpMethod.PUT,
+                    new HttpEntity<>(new ProductDto(null, "BASE", "상의", price)), String.class).getStatusCode().value());
+            if (status == HttpStatus.OK) {
+                acceptedPrices.add(price);
+            }
+            return status;
+        });
+
+        Map<HttpStatus, Integer> counts = count(statuses);
+        assertTrue(Set.of(HttpStatus.OK, HttpStatus.CONFLICT).containsAll(counts.keySet()), counts.toString());
+        Product updated = productRepository.findById(product.getId()).orElseThrow();
+        assertEquals(initialVersion + counts.get(HttpStatus.OK), updated.getVersion());
+        assertEquals(acceptedPrices.size(), counts.get(HttpStatus.OK));
+        assertTrue(acceptedPrices.contains(updated.getPrice()));
+    }
+
+    /**
+     * 모든 작업이 준비된 뒤 한꺼번에 시작하도록 래치로 맞춥니다.
+     */
+    private List<HttpStatus> runConcurrently(IntFunction<Callable<HttpStatus>> writer) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<HttpStatus>> futures = new ArrayList<>(WRITERS);
+            for (int i = 0; i < WRITERS; i++) {
+                Callable<HttpStatus> call = writer.apply(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+
+            List<HttpStatus> statuses = new ArrayList<>(WRITERS);
+            for (Future<HttpStatus> future : futures) {
+                statuses.add(future.get());
+            }
+            return statuses;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Map<HttpStatus, Integer> count(List<HttpStatus> statuses) {
+        Map<HttpStatus, Integer> counts = new HashMap<>();
+        for (HttpStatus status : statuses) {
+            counts.merge(status, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private void clear() {
+        productRepository.deleteAllInBatch();
+        brandRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+    }
+}
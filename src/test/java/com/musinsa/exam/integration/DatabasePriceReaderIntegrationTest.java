@@ -0,0 +1,148 @@
+package com.musinsa.exam.integration;
+
+import com.musinsa.exam.index.PriceReader;
+import com.musinsa.exam.model.Brand;
+import com.musinsa.exam.model.Category;
+import com.musinsa.exam.model.Product;
+import com.musinsa.exam.repository.BrandRepository;
+import com.musinsa.exam.repository.CategoryRepository;
+import com.musinsa.exam.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "musinsa.pricing.source=database")
+@Transactional
+@ActiveProfiles("test")
+public class DatabasePriceReaderIntegrationTest {
+
+    @Autowired
+    private PriceReader priceReader;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        brandRepository.deleteAll();
+        categoryRepository.deleteAll();
+
+        Brand brandA = brandRepository.save(new Brand(null, "A"));
+        Brand brandB = brandRepository.save(new Brand(null, "B"));
+        Brand brandC = brandRepository.save(new Brand(null, "C"));
+
+        Category category1 = categoryRepository.save(new Category(null, "상의"));
+        Category category2 = categoryRepository.save(new Category(null, "하의"));
+        categoryRepository.save(new Category(null, "모자"));
+
+        productRepository.save(new Product(null, brandA, category1, 10000));
+        productRepository.save(new Product(null, brandA, category2, 20000));
+        productRepository.save(new Product(null, brandB, category1, 15000));
+        productRepository.save(new Product(null, brandB, category2, 25000));
+        productRepository.save(new Product(null, brandC, category2, 1000));
+    }
+
+    /**
+     * 윈도 함수 쿼리가 상품이 있는 카테고리마다 최저가 브랜드를 카테고리 순서대로 반환하는지 검증합니다.
+     * 상품이 없는 카테고리('모자')는 결과에서 제외되어야 합니다.
+     */
+    @Test
+    void lowestPerCategory() {
+        List<PriceReader.CategoryPrice> result = priceReader.lowestPerCategory();
+
+        assertEquals(List.of(
+                new PriceReader.CategoryPrice("상의", "A", 10000),
+                new PriceReader.CategoryPrice("하의", "C", 1000)), result);
+    }
+
+    /**
+     * 단일 카테고리 조회 시 최저가/최고가 브랜드를 함께 반환하고,
+     * 없는 카테고리와 상품이 없는 카테고리를 구분하는지 검증합니다.
+     */
+    @Test
+    void priceRange() {
+        PriceReader.PriceRange range = priceReader.priceRange("하의").orElseThrow();
+
+        assertEquals(new PriceReader.CategoryPrice("하의", "C", 1000), range.lowest());
+        assertEquals(new PriceReader.CategoryPrice("하의", "B", 25000), range.highest());
+        assertNull(priceReader.priceRange("모자").orElseThrow().lowest());
+        assertTrue(priceReader.priceRange("없는카테고리").isEmpty());
+    }
+
+    /**
+     * 여러 카테고리를 요청 순서대로 반환하고, 없는 카테고리는 빼는지 검증합니다.
+     */
+    @Test
+    void priceRanges() {
+        Map<String, PriceReader.PriceRange> ranges = priceReader.priceRanges(List.of("하의", "없는카테고리", "모자", "상의"));
+
+        assertEquals(List.of("하의", "모자", "상의"), List.copyOf(ranges.keySet()));
+        assertEquals(new PriceReader.CategoryPrice("하의", "C", 1000), ranges.get("하의").lowest());
+        assertEquals(new PriceReader.CategoryPrice("상의", "B", 15000), ranges.get("상의").highest());
+        assertNull(ranges.get("모자").lowest());
+    }
+
+    /**
+     * 대시보드 값이 개별 조회 결과와 같은지 검증합니다. 모든 카테고리를 갖춘 브랜드가 없으면 최저 총액 브랜드는 null입니다.
+     */
+    @Test
+    void dashboard() {
+        PriceReader.Dashboard dashboard = priceReader.dashboard();
+
+        assertEquals(List.of("상의", "하의", "모자"), dashboard.categoryNames());
+        assertEquals(priceReader.priceRange("상의").orElseThrow(), dashboard.ranges().get(0));
+        assertEquals(priceReader.priceRange("하의").orElseThrow(), dashboard.ranges().get(1));
+        assertNull(dashboard.ranges().get(2).lowest());
+        assertNull(dashboard.cheapestBrand());
+    }
+
+    /**
+     * 집계 쿼리가 모든 카테고리를 갖춘 브랜드만 후보로 삼는지 검증합니다.
+     * 카테고리를 하나라도 빠뜨린 브랜드는 총액이 낮아도 선택되지 않아야 합니다.
+     */
+    @Test
+    void cheapestBrand() {
+        Category category3 = categoryRepository.findByName("모자").orElseThrow();
+        productRepository.save(new Product(null, brandRepository.findByName("A").orElseThrow(), category3, 3000));
+        productRepository.save(new Product(null, brandRepository.findByName("B").orElseThrow(), category3, 1000));
+
+        PriceReader.BrandTotal result = priceReader.cheapestBrand().orElseThrow();
+
+        assertEquals("A", result.brand());
+        assertEquals(33000, result.totalPrice());
+        assertEquals(3, result.prices().size());
+    }
+
+    /**
+     * 키셋 조건이 (가격, 브랜드 id) 순서로 다음 페이지를 이어서 읽고 가격 범위를 지키는지 검증합니다.
+     */
+    @Test
+    void ranking() {
+        List<PriceReader.RankedPrice> first = priceReader.ranking("하의",
+                new PriceReader.RankingQuery(0, 20000, null, null, 2)).orElseThrow();
+        assertEquals(List.of("C", "A"), first.stream().map(PriceReader.RankedPrice::brand).toList());
+
+        PriceReader.RankedPrice last = first.get(1);
+        List<PriceReader.RankedPrice> next = priceReader.ranking("하의",
+                new PriceReader.RankingQuery(0, Integer.MAX_VALUE, last.price(), last.brandId(), 2)).orElseThrow();
+        assertEquals(List.of(new PriceReader.RankedPrice(brandRepository.findByName("B").orElseThrow().getId(), "B", 25000)), next);
+
+        assertTrue(priceReader.ranking("모자", new PriceReader.RankingQuery(0, Integer.MAX_VALUE, null, null, 10)).orElseThrow().isEmpty());
+        assertTrue(priceReader.ranking("없는카테고리", new PriceReader.RankingQuery(0, Integer.MAX_VALUE, null, null, 10)).isEmpty());
+    }
+}
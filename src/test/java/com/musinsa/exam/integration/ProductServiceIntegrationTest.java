@@ -3,6 +3,9 @@ package com.musinsa.exam.integration;
 import com.musinsa.exam.dto.LowestPriceBrandsDto;
 import com.musinsa.exam.dto.LowestPriceBrandDto;
 import com.musinsa.exam.dto.CategoryPriceRangeDto;
+import com.musinsa.exam.dto.ProductBatchResultDto;
+import com.musinsa.exam.dto.ProductDto;
+import com.musinsa.exam.index.PriceIndex;
 import com.musinsa.exam.model.Brand;
 import com.musinsa.exam.model.Category;
 import com.musinsa.exam.model.Product;
@@ -16,9 +19,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -38,6 +44,12 @@ public class ProductServiceIntegrationTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private PriceIndex priceIndex;
+
+    @Autowired
+    private CacheManager cacheManager;
+
     @BeforeEach
     void setUp() {
         // 기존 데이터 모두 삭제
@@ -56,6 +68,10 @@ public class ProductServiceIntegrationTest {
         productRepository.save(new Product(null, brandA, category2, 20000));
         productRepository.save(new Product(null, brandB, category1, 15000));
         productRepository.save(new Product(null, brandB, category2, 25000));
+
+        // 저장소에 직접 넣은 데이터를 가격 인덱스에 반영하고 이전 테스트의 응답 캐시 제거
+        priceIndex.reload();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
     }
 
     /**
@@ -219,6 +235,8 @@ public class ProductServiceIntegrationTest {
         productService.deleteBrand(brandToDelete.getId());
 
         assertFalse(brandRepository.findById(brandToDelete.getId()).isPresent());
+        assertTrue(productRepository.findCategoryNamesByBrandId(brandToDelete.getId()).isEmpty());
+        assertEquals(2, productRepository.count());
     }
 
     /**
@@ -238,4 +256,39 @@ public class ProductServiceIntegrationTest {
     void deleteBrand_NotFound() {
         assertThrows(ResourceNotFoundException.class, () -> productService.deleteBrand(999L));
     }
-}
\ No newline at end of file
+
+    /**
+     * 상품 일괄 추가/수정 기능 테스트
+     *
+     * 목적:
+     * 1. 기존 브랜드/카테고리 조합은 가격만 수정되고 새 조합은 추가되는지 검증
+     * 2. 추가/수정 건수가 정확히 집계되는지 확인
+     *
+     * 테스트 설계 이유:
+     * - 시퀀스 기반 id 발급과 JDBC 배치 설정에서 실제 INSERT/UPDATE가 정상 수행되는지 확인
+     * - 유니크 제약(brand_id, category_id)을 위반하지 않고 upsert가 처리되는지 검증
+     */
+    @Test
+    void upsertProducts() {
+        brandRepository.save(new Brand(null, "C"));
+
+        ProductBatchResultDto result = productService.upsertProducts(List.of(
+                new ProductDto(null, "A", "상의", 9000),
+                new ProductDto(null, "C", "상의", 7000),
+                new ProductDto(null, "C", "하의", 8000)));
+
+        assertEquals(2, result.getInserted());
+        assertEquals(1, result.getUpdated());
+        assertEquals(6, productRepository.count());
+        Brand brandA = brandRepository.findByName("A").orElseThrow();
+        assertEquals(9000, priceOf(brandA, "상의"));
+    }
+
+    private int priceOf(Brand brand, String categoryName) {
+        return productRepository.findByBrand(brand).stream()
+                .filter(product -> product.getCategory().getName().equals(categoryName))
+                .findFirst()
+                .orElseThrow()
+                .getPrice();
+    }
+}
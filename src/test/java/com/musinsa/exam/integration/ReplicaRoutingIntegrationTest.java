@@ -0,0 +1,165 @@
+package com.musinsa.exam.integration;
+
+import com.musinsa.exam.dto.CategoryPriceRangeDto;
+import com.musinsa.exam.dto.ProductDto;
+import com.musinsa.exam.model.Brand;
+import com.musinsa.exam.model.Category;
+import com.musinsa.exam.model.Product;
+import com.musinsa.exam.replica.H2ReplicationEmulator;
+import com.musinsa.exam.replica.ReadYourWritesFilter;
+import com.musinsa.exam.repository.BrandRepository;
+import com.musinsa.exam.repository.CategoryRepository;
+import com.musinsa.exam.repository.ProductRepository;
+import com.musinsa.exam.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * H2 인메모리 DB 세 개를 primary와 복제본 두 개로 띄워 읽기 라우팅을 확인합니다.
+ * 복제본마다 가격을 다르게 바꿔 두어 응답 가격으로 어느 DB에서 읽었는지 구분하며,
+ * 복제는 테스트가 {@link H2ReplicationEmulator#replicate()}를 직접 호출할 때만 일어나므로 그 사이는 복제 지연 상태입니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=" + ReplicaRoutingIntegrationTest.PRIMARY,
+        "spring.cache.type=none",
+        "spring.jpa.open-in-view=false",
+        "musinsa.pricing.source=database",
+        "musinsa.replica.enabled=true",
+        "musinsa.replica.urls=" + ReplicaRoutingIntegrationTest.REPLICA_0 + "," + ReplicaRoutingIntegrationTest.REPLICA_1,
+        "musinsa.replica.read-your-writes-window=1m",
+        "musinsa.replica.emulated-replication-interval=3600000",
+        "musinsa.snapshot.max-age=100ms"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingIntegrationTest {
+
+    static final String PRIMARY = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_0 = "jdbc:h2:mem:routing-replica-0;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_1 = "jdbc:h2:mem:routing-replica-1;DB_CLOSE_DELAY=-1";
+
+    private static final int PRIMARY_PRICE = 1000;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private H2ReplicationEmulator replicationEmulator;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        clear();
+        Brand brand = brandRepository.save(new Brand(null, "A"));
+        Category category = categoryRepository.save(new Category(null, "상의"));
+        product = productRepository.save(new Product(null, brand, category, PRIMARY_PRICE));
+
+        replicationEmulator.replicate();
+        markReplica(REPLICA_0, 1);
+        markReplica(REPLICA_1, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    /**
+     * 읽기 전용 서비스 호출은 primary가 아닌 복제본 두 개에 번갈아 배정되는지 확인합니다.
+     */
+    @Test
+    void readOnlyCalls_AreBalancedAcrossReplicas() {
+        List<Integer> prices = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            prices.add(productService.getCategoryPriceRange("상의").getLowestPrice().getPrice());
+        }
+
+        assertEquals(2, Collections.frequency(prices, PRIMARY_PRICE + 1));
+        assertEquals(2, Collections.frequency(prices, PRIMARY_PRICE + 2));
+        assertNotEquals(prices.get(0), prices.get(1));
+    }
+
+    /**
+     * 쓰기는 primary에 반영되고, 쓴 클라이언트는 복제가 따라오기 전에도 자신의 쓰기를 읽으며,
+     * 다른 클라이언트는 복제가 끝난 뒤에 새 값을 읽는지 확인합니다.
+     */
+    @Test
+    void writer_ReadsOwnWriteBeforeReplication() throws Exception {
+        ResponseEntity<ProductDto> updated = restTemplate.exchange("/api/product/" + product.getId(), HttpMethod.PUT,
+                new HttpEntity<>(new ProductDto(null, "A", "상의", 500)), ProductDto.class);
+        assertTrue(updated.getStatusCode().is2xxSuccessful());
+        assertEquals(500, jdbcTemplate.queryForObject("SELECT price FROM PRODUCT WHERE id = ?", Integer.class, product.getId()));
+
+        String cookie = updated.getHeaders().getFirst(HttpHeaders.SET_COOKIE);
+        assertNotNull(cookie);
+        assertTrue(cookie.startsWith(ReadYourWritesFilter.COOKIE_NAME + "="));
+        HttpHeaders writerHeaders = new HttpHeaders();
+        writerHeaders.add(HttpHeaders.COOKIE, cookie.split(";", 2)[0]);
+
+        assertEquals(500, lowestPrice(writerHeaders));
+        assertEquals(500, lowestPrice(writerHeaders));
+        assertTrue(lowestPrice(new HttpHeaders()) > PRIMARY_PRICE, "복제 전에는 다른 클라이언트가 복제본의 이전 값을 읽어야 합니다");
+
+        replicationEmulator.replicate();
+        Thread.sleep(150);
+        assertEquals(500, lowestPrice(new HttpHeaders()));
+        assertEquals(500, lowestPrice(new HttpHeaders()));
+    }
+
+    private int lowestPrice(HttpHeaders headers) {
+        ResponseEntity<CategoryPriceRangeDto> response = restTemplate.exchange("/api/category-price-range?category={category}",
+                HttpMethod.GET, new HttpEntity<>(headers), CategoryPriceRangeDto.class, "상의");
+        assertTrue(response.getStatusCode().is2xxSuccessful());
+        return response.getBody().getLowestPrice().getPrice();
+    }
+
+    /**
+     * 복제본마다 가격을 다르게 바꿔 어느 복제본에서 읽었는지 구분할 수 있게 합니다.
+     */
+    private static void markReplica(String url, int offset) throws Exception {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE PRODUCT SET price = price + " + offset);
+        }
+    }
+
+    private void clear() {
+        productRepository.deleteAll();
+        brandRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+}
@@ -0,0 +1,68 @@
+package com.musinsa.exam.metrics;
+
+import com.musinsa.exam.repository.BrandRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlStatementMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @AfterEach
+    void tearDown() {
+        brandRepository.findByName("Metrics").ifPresent(brandRepository::delete);
+    }
+
+    /**
+     * 요청 한 건의 SQL 문장 수가 URI 패턴별 분포로 기록되고,
+     * 같은 요청의 서비스 메서드 호출이 메서드 태그가 붙은 타이머로 기록되는지 확인합니다.
+     */
+    @Test
+    void recordsStatementsPerRequestAndServiceTimer() throws Exception {
+        // 같은 컨텍스트를 쓰는 다른 테스트의 기록과 섞이지 않도록 증가분으로 비교
+        DistributionSummary before = brandRequests();
+        long requestsBefore = before == null ? 0 : before.count();
+        double statementsBefore = before == null ? 0 : before.totalAmount();
+        Timer addBrandTimer = meterRegistry.find("musinsa.service").tag("method", "addBrand").timer();
+        long addBrandBefore = addBrandTimer == null ? 0 : addBrandTimer.count();
+
+        mockMvc.perform(post("/api/brand").content("Metrics"))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = brandRequests();
+        assertNotNull(statements);
+        assertEquals(requestsBefore + 1, statements.count());
+        assertTrue(statements.totalAmount() - statementsBefore >= 1, "brand insert");
+        assertTrue(meterRegistry.get("musinsa.sql.statements").counter().count() >= statements.totalAmount());
+        assertEquals(addBrandBefore + 1, meterRegistry.get("musinsa.service").tag("method", "addBrand").timer().count());
+    }
+
+    private DistributionSummary brandRequests() {
+        return meterRegistry.find("musinsa.sql.statements.per.request")
+                .tag("method", "POST")
+                .tag("uri", "/api/brand")
+                .summary();
+    }
+}
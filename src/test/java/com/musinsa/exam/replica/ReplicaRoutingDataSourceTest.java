@@ -0,0 +1,87 @@
+package com.musinsa.exam.replica;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private Connection primaryConnection;
+    private Connection replica0Connection;
+    private Connection replica1Connection;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primaryConnection = mock(Connection.class);
+        replica0Connection = mock(Connection.class);
+        replica1Connection = mock(Connection.class);
+        routing = new ReplicaRoutingDataSource(dataSource(primaryConnection),
+                List.of(dataSource(replica0Connection), dataSource(replica1Connection)));
+        routing.afterPropertiesSet();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    /**
+     * 읽기 전용 트랜잭션은 복제본에 번갈아 배정되는지 확인합니다.
+     */
+    @Test
+    void readOnlyTransaction_RoundRobinsReplicas() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        List<Connection> connections = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            connections.add(routing.getConnection());
+        }
+
+        assertEquals(List.of(replica0Connection, replica1Connection, replica0Connection, replica1Connection), connections);
+    }
+
+    /**
+     * 쓰기 트랜잭션은 primary로 보내는지 확인합니다.
+     */
+    @Test
+    void writeTransaction_UsesPrimary() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        assertSame(primaryConnection, routing.getConnection());
+    }
+
+    /**
+     * 읽기 전용 트랜잭션이라도 primary에 고정된 동안에는 primary로 보내고, 고정이 풀리면 다시 복제본으로 보내는지 확인합니다.
+     */
+    @Test
+    void pinnedReadOnlyTransaction_UsesPrimary() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try (PrimaryPin.Scope outer = PrimaryPin.pin()) {
+            try (PrimaryPin.Scope inner = PrimaryPin.pin()) {
+                assertSame(primaryConnection, routing.getConnection());
+            }
+            assertTrue(PrimaryPin.isPinned());
+            assertSame(primaryConnection, routing.getConnection());
+        }
+        assertFalse(PrimaryPin.isPinned());
+        assertSame(replica0Connection, routing.getConnection());
+    }
+
+    private static DataSource dataSource(Connection connection) throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
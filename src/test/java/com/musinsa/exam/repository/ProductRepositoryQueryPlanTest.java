@@ -0,0 +1,139 @@
+package com.musinsa.exam.repository;
+
+import com.musinsa.exam.model.Brand;
+import com.musinsa.exam.model.Category;
+import com.musinsa.exam.metrics.SqlStatementCounter;
+import com.musinsa.exam.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ProductRepository 조회 쿼리가 PRODUCT 테이블 전체 스캔 대신 인덱스를 사용하는지 H2 실행 계획으로 검증합니다.
+ * 파생 쿼리가 실제로 만든 SQL을 {@link SqlStatementCounter}에서 가져와 그대로 EXPLAIN 합니다.
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+public class ProductRepositoryQueryPlanTest {
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private SqlStatementCounter sqlStatementCounter;
+
+    private Brand brand;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAllInBatch();
+        brandRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+
+        Category category1 = categoryRepository.save(new Category(null, "상의"));
+        Category category2 = categoryRepository.save(new Category(null, "하의"));
+        for (int i = 0; i < 50; i++) {
+            Brand saved = brandRepository.save(new Brand(null, "B" + i));
+            productRepository.save(new Product(null, saved, category1, 1000 + i * 10));
+            productRepository.save(new Product(null, saved, category2, 2000 + i * 10));
+        }
+        productRepository.flush();
+        brand = brandRepository.findByName("B0").orElseThrow();
+        category = category1;
+    }
+
+    /**
+     * findTopByCategoryOrderByPriceAsc: 카테고리 조건과 가격 정렬을 (category_id, price, brand_id) 인덱스로 처리해야 합니다.
+     */
+    @Test
+    void findTopByCategoryOrderByPriceAsc_UsesCategoryPriceIndex() {
+        String sql = capturedProductSelect(() -> productRepository.findTopByCategoryOrderByPriceAsc(category));
+
+        assertSingleTableQuery(sql);
+        assertIndexScan(explain(sql, category.getId(), 1), "IDX_PRODUCT_CATEGORY_PRICE_BRAND", "CATEGORY_ID");
+    }
+
+    /**
+     * findTopByCategoryOrderByPriceDesc: 역순 정렬도 같은 인덱스로 처리해야 합니다.
+     */
+    @Test
+    void findTopByCategoryOrderByPriceDesc_UsesCategoryPriceIndex() {
+        String sql = capturedProductSelect(() -> productRepository.findTopByCategoryOrderByPriceDesc(category));
+
+        assertSingleTableQuery(sql);
+        assertIndexScan(explain(sql, category.getId(), 1), "IDX_PRODUCT_CATEGORY_PRICE_BRAND", "CATEGORY_ID");
+    }
+
+    /**
+     * findByBrand: 브랜드 조건은 (brand_id, price) 인덱스로 처리해야 합니다.
+     */
+    @Test
+    void findByBrand_UsesBrandIndex() {
+        String sql = capturedProductSelect(() -> productRepository.findByBrand(brand));
+
+        assertSingleTableQuery(sql);
+        assertIndexScan(explain(sql, brand.getId()), "IDX_PRODUCT_BRAND_PRICE", "BRAND_ID");
+    }
+
+    /**
+     * 조회를 실행하며 Hibernate가 실제로 만든 PRODUCT 조회 SQL을 가져옵니다.
+     */
+    private String capturedProductSelect(Runnable query) {
+        clearInvocations(sqlStatementCounter);
+        query.run();
+
+        ArgumentCaptor<String> statements = ArgumentCaptor.forClass(String.class);
+        verify(sqlStatementCounter, atLeastOnce()).inspect(statements.capture());
+        return statements.getAllValues().stream()
+                .filter(sql -> sql.toLowerCase().startsWith("select") && sql.toLowerCase().contains("from product"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("PRODUCT 조회가 실행되지 않았습니다: " + statements.getAllValues()));
+    }
+
+    /**
+     * 생성된 SQL의 바인드 변수에 등장 순서대로 값을 넣어 실행 계획을 조회합니다.
+     * 행 수 제한을 리터럴로 만드는 방언이면 뒤쪽 값은 쓰지 않습니다.
+     */
+    private String explain(String sql, Object... parameters) {
+        int count = (int) sql.chars().filter(c -> c == '?').count();
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, Arrays.copyOf(parameters, count));
+    }
+
+    /**
+     * 브랜드/카테고리를 조인으로 함께 읽으면 다른 실행 계획이 되므로 PRODUCT만 읽는 모양인지 확인합니다.
+     */
+    private void assertSingleTableQuery(String sql) {
+        assertFalse(sql.toLowerCase().contains(" join "), sql);
+    }
+
+    /**
+     * 인덱스 이름만 나오는 계획은 인덱스 전체를 훑는 경우도 포함하므로, 선두 컬럼 조건으로 인덱스를 탐색하는지 확인합니다.
+     */
+    private void assertIndexScan(String plan, String indexName, String leadingColumn) {
+        String upper = plan.toUpperCase();
+        assertFalse(upper.contains("TABLESCAN"), plan);
+        assertTrue(upper.contains(indexName + ": " + leadingColumn + " ="), plan);
+    }
+}
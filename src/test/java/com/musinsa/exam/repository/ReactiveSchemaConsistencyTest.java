@@ -0,0 +1,127 @@
+package com.musinsa.exam.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 리액티브 모듈의 schema.sql이 엔티티로 Hibernate가 생성하는 스키마와 같은지 H2 INFORMATION_SCHEMA로 비교합니다.
+ * 엔티티에 컬럼, 제약 조건, 시퀀스, 인덱스를 추가하면서 schema.sql을 고치지 않으면 실패합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReactiveSchemaConsistencyTest {
+
+    private static final String REACTIVE_SCHEMA = "reactive/src/main/resources/schema.sql";
+    private static final String TABLES = "('BRAND', 'CATEGORY', 'PRODUCT')";
+    private static final String SEQUENCES = "('BRAND_SEQ', 'CATEGORY_SEQ', 'PRODUCT_SEQ')";
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Connection hibernate;
+    private Connection reactive;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        hibernate = dataSource.getConnection();
+        reactive = DriverManager.getConnection("jdbc:h2:mem:reactive-schema", "sa", "");
+        ScriptUtils.executeSqlScript(reactive, new FileSystemResource(REACTIVE_SCHEMA));
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        hibernate.close();
+        reactive.close();
+    }
+
+    @Test
+    void columns_MatchEntities() throws SQLException {
+        String sql = "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, CHARACTER_MAXIMUM_LENGTH, IS_NULLABLE, COLUMN_DEFAULT "
+                + "FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME IN " + TABLES
+                + " ORDER BY TABLE_NAME, COLUMN_NAME";
+
+        assertEquals(rows(hibernate, sql), rows(reactive, sql));
+    }
+
+    @Test
+    void sequences_MatchEntities() throws SQLException {
+        String sql = "SELECT SEQUENCE_NAME, START_VALUE, INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES "
+                + "WHERE SEQUENCE_SCHEMA = 'PUBLIC' AND SEQUENCE_NAME IN " + SEQUENCES + " ORDER BY SEQUENCE_NAME";
+
+        assertEquals(rows(hibernate, sql), rows(reactive, sql));
+    }
+
+    /**
+     * {@code @Table(indexes = ...)}로 선언한 인덱스의 이름과 컬럼 순서를 비교합니다. 제약 조건이 만드는 인덱스는 제약 조건 비교로 확인합니다.
+     */
+    @Test
+    void indexes_MatchEntities() throws SQLException {
+        String sql = "SELECT INDEX_NAME, TABLE_NAME, COLUMN_NAME, ORDINAL_POSITION FROM INFORMATION_SCHEMA.INDEX_COLUMNS "
+                + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME IN " + TABLES + " AND INDEX_NAME LIKE 'IDX\\_%' ESCAPE '\\' "
+                + "ORDER BY INDEX_NAME, ORDINAL_POSITION";
+
+        List<List<Object>> indexes = rows(hibernate, sql);
+        assertFalse(indexes.isEmpty());
+        assertEquals(indexes, rows(reactive, sql));
+    }
+
+    /**
+     * 제약 조건 이름은 Hibernate가 임의로 만들므로 종류, 테이블, 컬럼 목록만 비교합니다.
+     */
+    @Test
+    void constraints_MatchEntities() throws SQLException {
+        assertEquals(constraints(hibernate), constraints(reactive));
+    }
+
+    private static List<String> constraints(Connection connection) throws SQLException {
+        String sql = "SELECT c.CONSTRAINT_NAME, c.CONSTRAINT_TYPE, c.TABLE_NAME, k.COLUMN_NAME "
+                + "FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS c "
+                + "JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE k "
+                + "ON k.CONSTRAINT_SCHEMA = c.CONSTRAINT_SCHEMA AND k.CONSTRAINT_NAME = c.CONSTRAINT_NAME "
+                + "WHERE c.CONSTRAINT_SCHEMA = 'PUBLIC' AND c.TABLE_NAME IN " + TABLES
+                + " ORDER BY c.CONSTRAINT_NAME, k.ORDINAL_POSITION";
+        Map<String, String> definitions = new TreeMap<>();
+        for (List<Object> row : rows(connection, sql)) {
+            definitions.merge((String) row.get(0), row.get(1) + " " + row.get(2) + " " + row.get(3),
+                    (columns, column) -> columns + "," + column.substring(column.lastIndexOf(' ') + 1));
+        }
+        List<String> result = new ArrayList<>(definitions.values());
+        result.sort(null);
+        return result;
+    }
+
+    private static List<List<Object>> rows(Connection connection, String sql) throws SQLException {
+        List<List<Object>> rows = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            int columns = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                List<Object> row = new ArrayList<>(columns);
+                for (int i = 1; i <= columns; i++) {
+                    row.add(resultSet.getObject(i));
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
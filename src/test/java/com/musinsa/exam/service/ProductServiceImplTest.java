@@ -3,24 +3,39 @@ package com.musinsa.exam.service;
 import com.musinsa.exam.dto.LowestPriceBrandsDto;
 import com.musinsa.exam.dto.LowestPriceBrandDto;
 import com.musinsa.exam.dto.CategoryPriceRangeDto;
+import com.musinsa.exam.dto.CategoryRankingDto;
+import com.musinsa.exam.dto.DashboardDto;
+import com.musinsa.exam.dto.OutfitDto;
+import com.musinsa.exam.dto.OutfitRequestDto;
+import com.musinsa.exam.dto.ProductBatchResultDto;
+import com.musinsa.exam.dto.ProductDto;
+import com.musinsa.exam.event.CatalogChangedEvent;
+import com.musinsa.exam.index.PriceIndex;
 import com.musinsa.exam.model.Brand;
 import com.musinsa.exam.model.Category;
 import com.musinsa.exam.model.Product;
 import com.musinsa.exam.repository.BrandRepository;
 import com.musinsa.exam.repository.CategoryRepository;
 import com.musinsa.exam.repository.ProductRepository;
+import com.musinsa.exam.repository.projection.ProductPriceRow;
 import com.musinsa.exam.exception.ResourceNotFoundException;
 import com.musinsa.exam.exception.DuplicateResourceException;
+import com.musinsa.exam.exception.InvalidInputException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
 
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,7 +53,10 @@ class ProductServiceImplTest {
     @Mock
     private ProductRepository productRepository;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PriceIndex priceIndex;
     private ProductServiceImpl productService;
 
     private Brand brandA, brandB;
@@ -55,6 +73,22 @@ class ProductServiceImplTest {
         productA2 = new Product(2L, brandA, category2, 20000);
         productB1 = new Product(3L, brandB, category1, 15000);
         productB2 = new Product(4L, brandB, category2, 25000);
+
+        priceIndex = new PriceIndex(brandRepository, categoryRepository, productRepository);
+        productService = new ProductServiceImpl(brandRepository, categoryRepository, productRepository, priceIndex, eventPublisher);
+    }
+
+    private static DataIntegrityViolationException uniqueViolation() {
+        return new DataIntegrityViolationException("duplicate", new SQLException("duplicate", "23505"));
+    }
+
+    private void loadIndex(List<Category> categories, List<Brand> brands, List<Product> products) {
+        when(categoryRepository.findAll(any(Sort.class))).thenReturn(categories);
+        when(brandRepository.findAll()).thenReturn(brands);
+        when(productRepository.findAllPriceRows()).thenReturn(products.stream()
+                .map(p -> new ProductPriceRow(p.getBrand().getId(), p.getCategory().getId(), p.getPrice()))
+                .toList());
+        priceIndex.reload();
     }
 
     /**
@@ -66,9 +100,8 @@ class ProductServiceImplTest {
      */
     @Test
     void getLowestPriceBrands_Success() {
-        when(categoryRepository.findAll()).thenReturn(Arrays.asList(category1, category2));
-        when(productRepository.findTopByCategoryOrderByPriceAsc(category1)).thenReturn(productA1);
-        when(productRepository.findTopByCategoryOrderByPriceAsc(category2)).thenReturn(productA2);
+        loadIndex(Arrays.asList(category1, category2), Arrays.asList(brandA, brandB),
+                Arrays.asList(productA1, productA2, productB1, productB2));
 
         LowestPriceBrandsDto result = productService.getLowestPriceBrands();
 
@@ -81,13 +114,27 @@ class ProductServiceImplTest {
         assertEquals(20000, result.getCategoryPrices().get(1).getPrice());
     }
 
+    /**
+     * 카테고리별 최저가 합이 int 범위를 넘어도 총액이 음수로 넘치지 않는지 확인합니다.
+     */
+    @Test
+    void getLowestPriceBrands_TotalBeyondIntRange() {
+        int nearLimit = 999_999_999;
+        loadIndex(Arrays.asList(category1, category2, new Category(3L, "아우터")), Arrays.asList(brandA),
+                Arrays.asList(new Product(1L, brandA, category1, nearLimit),
+                        new Product(2L, brandA, category2, nearLimit),
+                        new Product(3L, brandA, new Category(3L, "아우터"), nearLimit)));
+
+        assertEquals(3L * nearLimit, productService.getLowestPriceBrands().getTotalPrice());
+    }
+
     /**
      * 카테고리가 없을 때 최저가 브랜드 조회 기능의 예외 처리를 테스트합니다.
      * 이는 데이터 무결성 검사의 중요한 부분으로, 예상치 못한 데이터 상태를 처리할 수 있는지 확인합니다.
      */
     @Test
     void getLowestPriceBrands_NoCategoriesFound() {
-        when(categoryRepository.findAll()).thenReturn(Collections.emptyList());
+        loadIndex(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
 
         assertThrows(ResourceNotFoundException.class, () -> productService.getLowestPriceBrands());
     }
@@ -98,8 +145,7 @@ class ProductServiceImplTest {
      */
     @Test
     void getLowestPriceBrands_NoProductsFound() {
-        when(categoryRepository.findAll()).thenReturn(Arrays.asList(category1, category2));
-        when(productRepository.findTopByCategoryOrderByPriceAsc(any(Category.class))).thenReturn(null);
+        loadIndex(Arrays.asList(category1, category2), Arrays.asList(brandA, brandB), Collections.emptyList());
 
         assertThrows(ResourceNotFoundException.class, () -> productService.getLowestPriceBrands());
     }
@@ -110,9 +156,8 @@ class ProductServiceImplTest {
      */
     @Test
     void getLowestPriceBrand_Success() {
-        when(brandRepository.findAll()).thenReturn(Arrays.asList(brandA, brandB));
-        when(productRepository.findByBrand(brandA)).thenReturn(Arrays.asList(productA1, productA2));
-        when(productRepository.findByBrand(brandB)).thenReturn(Arrays.asList(productB1, productB2));
+        loadIndex(Arrays.asList(category1, category2), Arrays.asList(brandA, brandB),
+                Arrays.asList(productA1, productA2, productB1, productB2));
 
         LowestPriceBrandDto result = productService.getLowestPriceBrand();
 
@@ -128,8 +173,30 @@ class ProductServiceImplTest {
      */
     @Test
     void getLowestPriceBrand_NoBrandsFound() {
-        when(brandRepository.findAll()).thenReturn(Collections.emptyList());
+        loadIndex(Arrays.asList(category1, category2), Collections.emptyList(), Collections.emptyList());
+
+        assertThrows(ResourceNotFoundException.class, () -> productService.getLowestPriceBrand());
+    }
+
+    /**
+     * 일부 카테고리만 가진 브랜드는 총액이 낮아도 단일 브랜드 최저가로 선택되지 않는지 테스트합니다.
+     * 새로 추가되어 상품이 없는 브랜드(총액 0)와 상품이 하나뿐인 브랜드를 모두 확인합니다.
+     */
+    @Test
+    void getLowestPriceBrand_IgnoresBrandsMissingCategories() {
+        loadIndex(Arrays.asList(category1, category2), Arrays.asList(brandA, brandB),
+                Arrays.asList(productA1, productA2, productB1, productB2));
+
+        priceIndex.onCatalogChanged(CatalogChangedEvent.brandSaved(new Brand(3L, "C"), List.of()));
+        assertEquals("A", productService.getLowestPriceBrand().getLowestPrice().getBrand());
 
+        priceIndex.onCatalogChanged(CatalogChangedEvent.productsChanged(List.of(
+                new CatalogChangedEvent.ProductChange(3L, 1L, "상의", 100))));
+        assertEquals("A", productService.getLowestPriceBrand().getLowestPrice().getBrand());
+
+        priceIndex.onCatalogChanged(CatalogChangedEvent.productsChanged(List.of(
+                new CatalogChangedEvent.ProductChange(1L, 2L, "하의", null),
+                new CatalogChangedEvent.ProductChange(2L, 2L, "하의", null))));
         assertThrows(ResourceNotFoundException.class, () -> productService.getLowestPriceBrand());
     }
 
@@ -139,9 +206,8 @@ class ProductServiceImplTest {
      */
     @Test
     void getCategoryPriceRange_Success() {
-        when(categoryRepository.findByName("상의")).thenReturn(Optional.of(category1));
-        when(productRepository.findTopByCategoryOrderByPriceAsc(category1)).thenReturn(productA1);
-        when(productRepository.findTopByCategoryOrderByPriceDesc(category1)).thenReturn(productB1);
+        loadIndex(Arrays.asList(category1, category2), Arrays.asList(brandA, brandB),
+                Arrays.asList(productA1, productA2, productB1, productB2));
 
         CategoryPriceRangeDto result = productService.getCategoryPriceRange("상의");
 
@@ -159,11 +225,122 @@ class ProductServiceImplTest {
      */
     @Test
     void getCategoryPriceRange_CategoryNotFound() {
-        when(categoryRepository.findByName("없는카테고리")).thenReturn(Optional.empty());
+        loadIndex(Arrays.asList(category1, category2), Collections.emptyList(), Collections.emptyList());
 
         assertThrows(ResourceNotFoundException.class, () -> productService.getCategoryPriceRange("없는카테고리"));
     }
 
+    /**
+     * 여러 카테고리 일괄 조회가 요청 순서를 지키고 중복을 한 번만 반환하며,
+     * 없는 카테고리가 섞이면 전체 요청을 거부하는지 테스트합니다.
+     */
+    @Test
+    void getCategoryPriceRanges_Batch() {
+        Category category3 = new Category(3L, "모자");
+        loadIndex(Arrays.asList(category1, category2, category3), Arrays.asList(brandA, brandB),
+                Arrays.asList(productA1, productA2, productB1, productB2));
+
+        List<CategoryPriceRangeDto> result = productService.getCategoryPriceRanges(List.of("하의", "상의", "하의", "모자"));
+
+        assertEquals(List.of("하의", "상의", "모자"), result.stream().map(CategoryPriceRangeDto::getCategory).toList());
+        assertEquals("B", result.get(0).getHighestPrice().getBrand());
+        assertEquals("A", result.get(1).getLowestPrice().getBrand());
+        assertNull(result.get(2).getLowestPrice());
+        assertThrows(ResourceNotFoundException.class, () -> productService.getCategoryPriceRanges(List.of("상의", "없는카테고리")));
+        assertThrows(InvalidInputException.class, () -> productService.getCategoryPriceRanges(List.of()));
+    }
+
+    /**
+     * 대시보드가 개별 조회 API와 같은 값을 한 응답에 담는지 테스트합니다.
+     */
+    @Test
+    void getDashboard_MatchesIndividualEndpoints() {
+        loadIndex(Arrays.asList(category1, category2), Arrays.asList(brandA, brandB),
+                Arrays.asList(productA1, productA2, productB1, productB2));
+
+        DashboardDto result = productService.getDashboard();
+
+        assertEquals(productService.getAllCategories(), result.getCategories());
+        assertEquals(productService.getLowestPriceBrands(), result.getLowestPriceBrands());
+        assertEquals(productService.getLowestPriceBrand(), result.getLowestPriceBrand());
+        assertEquals(List.of(productService.getCategoryPriceRange("상의"), productService.getCategoryPriceRange("하의")),
+                result.getPriceRanges());
+    }
+
+    /**
+     * 상품이 없으면 개별 API처럼 404를 내지 않고 해당 항목만 비워 두는지 테스트합니다.
+     */
+    @Test
+    void getDashboard_EmptyCatalog() {
+        loadIndex(Arrays.asList(category1, category2), Collections.emptyList(), Collections.emptyList());
+
+        DashboardDto result = productService.getDashboard();
+
+        assertEquals(List.of("상의", "하의"), result.getCategories());
+        assertNull(result.getLowestPriceBrands());
+        assertNull(result.getLowestPriceBrand());
+        assertEquals(2, result.getPriceRanges().size());
+        assertNull(result.getPriceRanges().get(0).getLowestPrice());
+    }
+
+    /**
+     * 가격 순위 조회가 가격 범위로 거르고, 다음 커서로 이어지는 페이지를 반환하는지 테스트합니다.
+     */
+    @Test
+    void getCategoryRanking_FiltersAndPages() {
+        Brand brandC = new Brand(3L, "C");
+        loadIndex(Arrays.asList(category1, category2), Arrays.asList(brandA, brandB, brandC),
+                Arrays.asList(productA1, productB1, new Product(5L, brandC, category1, 10000)));
+
+        CategoryRankingDto first = productService.getCategoryRanking("상의", 1, 10000, 15000, null);
+        assertEquals("A", first.getBrands().get(0).getBrand());
+        assertEquals("10000:1", first.getNextCursor());
+
+        CategoryRankingDto second = productService.getCategoryRanking("상의", 2, 10000, 15000, first.getNextCursor());
+        assertEquals(List.of("C", "B"), second.getBrands().stream().map(CategoryRankingDto.BrandPrice::getBrand).toList());
+        assertNull(second.getNextCursor());
+
+        CategoryRankingDto ranged = productService.getCategoryRanking("상의", 10, 12000, null, null);
+        assertEquals(1, ranged.getBrands().size());
+        assertEquals(15000, ranged.getBrands().get(0).getPrice());
+    }
+
+    /**
+     * 잘못된 조회 조건과 없는 카테고리에 대한 예외 처리를 테스트합니다.
+     */
+    @Test
+    void getCategoryRanking_InvalidInput() {
+        loadIndex(Arrays.asList(category1, category2), Arrays.asList(brandA, brandB),
+                Arrays.asList(productA1, productA2, productB1, productB2));
+
+        assertThrows(InvalidInputException.class, () -> productService.getCategoryRanking("상의", 0, null, null, null));
+        assertThrows(InvalidInputException.class, () -> productService.getCategoryRanking("상의", 10, 5000, 1000, null));
+        assertThrows(InvalidInputException.class, () -> productService.getCategoryRanking("상의", 10, null, null, "abc"));
+        assertThrows(ResourceNotFoundException.class, () -> productService.getCategoryRanking("없는카테고리", 10, null, null, null));
+    }
+
+    /**
+     * 코디 계산이 브랜드 수 제한과 제외 브랜드 조건을 반영하는지 테스트합니다.
+     */
+    @Test
+    void optimizeOutfit_Constraints() {
+        loadIndex(Arrays.asList(category1, category2), Arrays.asList(brandA, brandB),
+                Arrays.asList(productA1, productA2, productB1, productB2));
+
+        OutfitDto unconstrained = productService.optimizeOutfit(new OutfitRequestDto(null, null, null, null));
+        assertEquals(30000, unconstrained.getTotalPrice());
+        assertEquals(1, unconstrained.getBrandCount());
+
+        OutfitDto withoutA = productService.optimizeOutfit(new OutfitRequestDto(1, List.of("A"), null, null));
+        assertEquals(List.of("B", "B"), withoutA.getCategoryPrices().stream().map(OutfitDto.CategoryPrice::getBrand).toList());
+        assertEquals(40000, withoutA.getTotalPrice());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> productService.optimizeOutfit(new OutfitRequestDto(null, null, null, Map.of("상의", 5000))));
+        assertThrows(InvalidInputException.class,
+                () -> productService.optimizeOutfit(new OutfitRequestDto(0, null, null, null)));
+    }
+
     /**
      * 새로운 브랜드 추가 기능의 정상 동작을 테스트합니다.
      * 이 테스트는 브랜드가 성공적으로 저장되고 올바른 정보를 반환하는지 확인합니다.
@@ -172,26 +349,39 @@ class ProductServiceImplTest {
     void addBrand_Success() {
         String newBrandName = "New Brand";
         Brand newBrand = new Brand(3L, newBrandName);
-        when(brandRepository.findByName(newBrandName)).thenReturn(Optional.empty());
-        when(brandRepository.save(any(Brand.class))).thenReturn(newBrand);
+        when(brandRepository.saveAndFlush(any(Brand.class))).thenReturn(newBrand);
 
         Brand result = productService.addBrand(newBrandName);
 
         assertNotNull(result);
         assertEquals(newBrandName, result.getName());
-        verify(brandRepository, times(1)).save(any(Brand.class));
+        verify(brandRepository, times(1)).saveAndFlush(any(Brand.class));
+        verify(brandRepository, never()).findByName(anyString());
+        verify(eventPublisher).publishEvent(CatalogChangedEvent.brandSaved(newBrand, List.of()));
     }
 
     /**
      * 이미 존재하는 브랜드 이름으로 추가를 시도할 때의 예외 처리를 테스트합니다.
-     * 이는 데이터 중복을 방지하는 비즈니스 로직을 검증합니다.
+     * 중복은 미리 조회하지 않고 유니크 제약 위반(SQLState 23505)으로 판단합니다.
      */
     @Test
     void addBrand_DuplicateBrand() {
         String existingBrandName = "A";
-        when(brandRepository.findByName(existingBrandName)).thenReturn(Optional.of(brandA));
+        when(brandRepository.saveAndFlush(any(Brand.class))).thenThrow(uniqueViolation());
 
         assertThrows(DuplicateResourceException.class, () -> productService.addBrand(existingBrandName));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    /**
+     * 유니크 키가 아닌 제약 위반(외래 키 등)은 중복으로 바꾸지 않고 그대로 전달하는지 테스트합니다.
+     */
+    @Test
+    void addBrand_OtherIntegrityViolation() {
+        when(brandRepository.saveAndFlush(any(Brand.class)))
+                .thenThrow(new DataIntegrityViolationException("fk", new SQLException("fk", "23506")));
+
+        assertThrows(DataIntegrityViolationException.class, () -> productService.addBrand("C"));
     }
 
     /**
@@ -205,15 +395,16 @@ class ProductServiceImplTest {
         Brand updatedBrand = new Brand(brandId, newBrandName);
 
         when(brandRepository.findById(brandId)).thenReturn(Optional.of(brandA));
-        when(brandRepository.findByName(newBrandName)).thenReturn(Optional.empty());
-        when(brandRepository.save(any(Brand.class))).thenReturn(updatedBrand);
+        when(brandRepository.saveAndFlush(any(Brand.class))).thenReturn(updatedBrand);
+        when(productRepository.findCategoryNamesByBrandId(brandId)).thenReturn(List.of("상의", "하의"));
 
         Brand result = productService.updateBrand(brandId, newBrandName);
 
         assertNotNull(result);
         assertEquals(brandId, result.getId());
         assertEquals(newBrandName, result.getName());
-        verify(brandRepository, times(1)).save(any(Brand.class));
+        verify(brandRepository, times(1)).saveAndFlush(any(Brand.class));
+        verify(eventPublisher).publishEvent(CatalogChangedEvent.brandSaved(updatedBrand, List.of("상의", "하의")));
     }
 
     /**
@@ -237,7 +428,7 @@ class ProductServiceImplTest {
         Long brandId = 1L;
         String existingName = "B";
         when(brandRepository.findById(brandId)).thenReturn(Optional.of(brandA));
-        when(brandRepository.findByName(existingName)).thenReturn(Optional.of(brandB));
+        when(brandRepository.saveAndFlush(any(Brand.class))).thenThrow(uniqueViolation());
 
         assertThrows(DuplicateResourceException.class, () -> productService.updateBrand(brandId, existingName));
     }
@@ -249,11 +440,16 @@ class ProductServiceImplTest {
     @Test
     void deleteBrand_Success() {
         Long brandId = 1L;
-        when(brandRepository.existsById(brandId)).thenReturn(true);
-        doNothing().when(brandRepository).deleteById(brandId);
+        when(productRepository.findCategoryNamesByBrandId(brandId)).thenReturn(List.of("상의", "하의"));
+        when(productRepository.deleteInBulkByBrandId(brandId)).thenReturn(2);
+        when(brandRepository.deleteInBulkById(brandId)).thenReturn(1);
 
         assertDoesNotThrow(() -> productService.deleteBrand(brandId));
-        verify(brandRepository, times(1)).deleteById(brandId);
+        InOrder inOrder = inOrder(productRepository, brandRepository);
+        inOrder.verify(productRepository).deleteInBulkByBrandId(brandId);
+        inOrder.verify(brandRepository).deleteInBulkById(brandId);
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+        verify(eventPublisher).publishEvent(CatalogChangedEvent.brandDeleted(brandId, List.of("상의", "하의")));
     }
 
     /**
@@ -263,8 +459,119 @@ class ProductServiceImplTest {
     @Test
     void deleteBrand_BrandNotFound() {
         Long nonExistentBrandId = 99L;
-        when(brandRepository.existsById(nonExistentBrandId)).thenReturn(false);
+        when(brandRepository.deleteInBulkById(nonExistentBrandId)).thenReturn(0);
 
         assertThrows(ResourceNotFoundException.class, () -> productService.deleteBrand(nonExistentBrandId));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    /**
+     * 상품 추가 시 저장된 상품을 반환하고 상품 변경 이벤트를 발행하는지 테스트합니다.
+     */
+    @Test
+    void addProduct_Success() {
+        Category category3 = new Category(3L, "모자");
+        Product saved = new Product(5L, brandA, category3, 3000);
+        when(brandRepository.findByName("A")).thenReturn(Optional.of(brandA));
+        when(categoryRepository.findByName("모자")).thenReturn(Optional.of(category3));
+        when(productRepository.saveAndFlush(any(Product.class))).thenReturn(saved);
+
+        ProductDto result = productService.addProduct(new ProductDto(null, "A", "모자", 3000));
+
+        assertEquals(new ProductDto(5L, "A", "모자", 3000), result);
+        verify(eventPublisher).publishEvent(CatalogChangedEvent.productsChanged(
+                List.of(CatalogChangedEvent.ProductChange.saved(saved))));
+    }
+
+    /**
+     * 이미 상품이 있는 브랜드/카테고리 조합으로 추가를 시도할 때의 예외 처리를 테스트합니다.
+     */
+    @Test
+    void addProduct_DuplicateProduct() {
+        when(brandRepository.findByName("A")).thenReturn(Optional.of(brandA));
+        when(categoryRepository.findByName("상의")).thenReturn(Optional.of(category1));
+        when(productRepository.saveAndFlush(any(Product.class))).thenThrow(uniqueViolation());
+
+        assertThrows(DuplicateResourceException.class,
+                () -> productService.addProduct(new ProductDto(null, "A", "상의", 3000)));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    /**
+     * 0 이하의 가격은 저장소 조회 전에 거부되는지 테스트합니다.
+     */
+    @Test
+    void addProduct_InvalidPrice() {
+        assertThrows(InvalidInputException.class,
+                () -> productService.addProduct(new ProductDto(null, "A", "상의", 0)));
+        verifyNoInteractions(brandRepository, productRepository);
+    }
+
+    /**
+     * 상품의 카테고리를 옮기면 이전 카테고리 삭제와 새 카테고리 저장이 한 이벤트로 발행되는지 테스트합니다.
+     */
+    @Test
+    void updateProduct_MovesCategory() {
+        Category category3 = new Category(3L, "모자");
+        when(productRepository.findById(1L)).thenReturn(Optional.of(productA1));
+        when(brandRepository.findByName("A")).thenReturn(Optional.of(brandA));
+        when(categoryRepository.findByName("모자")).thenReturn(Optional.of(category3));
+        when(productRepository.saveAndFlush(productA1)).thenReturn(productA1);
+
+        ProductDto result = productService.updateProduct(1L, new ProductDto(null, "A", "모자", 5000));
+
+        assertEquals(new ProductDto(1L, "A", "모자", 5000), result);
+        verify(eventPublisher).publishEvent(CatalogChangedEvent.productsChanged(List.of(
+                new CatalogChangedEvent.ProductChange(1L, 1L, "상의", null),
+                new CatalogChangedEvent.ProductChange(1L, 3L, "모자", 5000))));
+    }
+
+    /**
+     * 존재하지 않는 상품 ID로 삭제를 시도할 때의 예외 처리를 테스트합니다.
+     */
+    @Test
+    void deleteProduct_ProductNotFound() {
+        when(productRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> productService.deleteProduct(99L));
+    }
+
+    /**
+     * 일괄 추가/수정 시 기존 상품은 가격만 바꾸고 새 조합만 saveAll로 추가하는지 테스트합니다.
+     * 같은 조합이 여러 번 오면 마지막 가격이 적용되어야 합니다.
+     */
+    @Test
+    void upsertProducts_InsertsAndUpdates() {
+        when(brandRepository.findByNameIn(anyCollection())).thenReturn(List.of(brandA, brandB));
+        when(categoryRepository.findByNameIn(anyCollection())).thenReturn(List.of(category1, category2));
+        when(productRepository.findWithBrandAndCategoryByBrandIn(anyCollection()))
+                .thenReturn(List.of(productA1, productA2, productB1));
+
+        ProductBatchResultDto result = productService.upsertProducts(List.of(
+                new ProductDto(null, "A", "상의", 9000),
+                new ProductDto(null, "B", "하의", 21000),
+                new ProductDto(null, "A", "상의", 8000)));
+
+        assertEquals(new ProductBatchResultDto(1, 1), result);
+        assertEquals(8000, productA1.getPrice());
+        verify(productRepository).saveAll(argThat(products -> {
+            List<Product> inserted = (List<Product>) products;
+            return inserted.size() == 1 && inserted.get(0).getBrand() == brandB
+                    && inserted.get(0).getCategory() == category2 && inserted.get(0).getPrice() == 21000;
+        }));
+    }
+
+    /**
+     * 일괄 요청에 없는 브랜드가 섞여 있으면 아무것도 저장하지 않고 예외가 발생하는지 테스트합니다.
+     */
+    @Test
+    void upsertProducts_UnknownBrand() {
+        when(brandRepository.findByNameIn(anyCollection())).thenReturn(List.of(brandA));
+        when(categoryRepository.findByNameIn(anyCollection())).thenReturn(List.of(category1));
+
+        assertThrows(ResourceNotFoundException.class, () -> productService.upsertProducts(List.of(
+                new ProductDto(null, "A", "상의", 9000),
+                new ProductDto(null, "Z", "상의", 9000))));
+        verify(productRepository, never()).saveAll(anyList());
     }
-}
\ No newline at end of file
+}